@@ -0,0 +1,57 @@
+package com.seek.test.seek_test.config;
+
+import com.seek.test.seek_test.service.ApiKeyRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates machine clients by the X-API-Key header against {@link ApiKeyRegistry},
+ * without password checks, token parsing or user lookups. The key's scopes become
+ * SCOPE_ authorities; unknown or revoked keys leave the request unauthenticated.
+ */
+@Component
+public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    static final String API_KEY_HEADER = "X-API-Key";
+
+    private final ApiKeyRegistry apiKeyRegistry;
+
+    public ApiKeyAuthenticationFilter(ApiKeyRegistry apiKeyRegistry) {
+        this.apiKeyRegistry = apiKeyRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        final String apiKey = request.getHeader(API_KEY_HEADER);
+
+        if (apiKey == null || apiKey.isBlank() || SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        apiKeyRegistry.authenticate(apiKey).ifPresent(principal -> {
+            UsernamePasswordAuthenticationToken authToken = UsernamePasswordAuthenticationToken.authenticated(
+                    principal.name(),
+                    null,
+                    principal.authorities()
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
+        });
+
+        filterChain.doFilter(request, response);
+    }
+}
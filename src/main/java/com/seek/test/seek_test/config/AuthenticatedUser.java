@@ -0,0 +1,25 @@
+package com.seek.test.seek_test.config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Authenticated principal that also carries the credential epoch of the user,
+ * which is embedded in the tokens issued at login.
+ */
+public class AuthenticatedUser extends User {
+
+    private final long credentialEpoch;
+
+    public AuthenticatedUser(String username, String password, Collection<? extends GrantedAuthority> authorities,
+                             long credentialEpoch) {
+        super(username, password, authorities);
+        this.credentialEpoch = credentialEpoch;
+    }
+
+    public long getCredentialEpoch() {
+        return credentialEpoch;
+    }
+}
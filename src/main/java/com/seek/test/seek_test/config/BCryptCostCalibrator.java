@@ -0,0 +1,57 @@
+package com.seek.test.seek_test.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * Picks the strongest BCrypt cost whose hashing time on the current hardware fits the
+ * latency budget. Each extra unit of cost doubles the work, so one measurement at the
+ * minimum cost is enough to extrapolate the rest.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final Logger log = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * Calibrates against the real BCrypt implementation
+     */
+    public static int calibrate(long targetLatencyMs, int minStrength, int maxStrength) {
+        return calibrate(targetLatencyMs, minStrength, maxStrength, BCryptCostCalibrator::measureNanos);
+    }
+
+    /**
+     * @param measureNanos hashing time of one password at the given cost, in nanoseconds
+     */
+    static int calibrate(long targetLatencyMs, int minStrength, int maxStrength, IntToLongFunction measureNanos) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            best = Math.min(best, measureNanos.applyAsLong(minStrength));
+        }
+
+        long budgetNanos = targetLatencyMs * 1_000_000L;
+        int strength = minStrength;
+        long estimate = best;
+        while (strength < maxStrength && estimate * 2 <= budgetNanos) {
+            strength++;
+            estimate *= 2;
+        }
+
+        log.info("BCrypt cost calibrated to {} (~{} ms per hash, budget {} ms, {} ms at cost {})",
+                strength, estimate / 1_000_000, targetLatencyMs, best / 1_000_000, minStrength);
+        return strength;
+    }
+
+    private static long measureNanos(int strength) {
+        String salt = BCrypt.gensalt(strength);
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration-password", salt);
+        return System.nanoTime() - start;
+    }
+}
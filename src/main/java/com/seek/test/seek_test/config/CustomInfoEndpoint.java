@@ -23,7 +23,7 @@ public class CustomInfoEndpoint {
                 .author("Erick Avila")
                 .email("erickdavila11@gmail.com")
                 .technology("Spring Boot 3.3.13")
-                .javaVersion("17")
+                .javaVersion("21")
                 .database("MySQL/AWS RDS")
                 .deployment("AWS ECS Fargate")
                 .startupTime(LocalDateTime.now())
@@ -1,33 +1,96 @@
 package com.seek.test.seek_test.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.seek.test.seek_test.entity.User;
 import com.seek.test.seek_test.repository.UserRepository;
+import com.seek.test.seek_test.service.UserCredentialsBatchChangedEvent;
+import com.seek.test.seek_test.service.UserCredentialsChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.util.Collections;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    // Short-lived cache of active users; invalidated on UserCredentialsChangedEvent, which is
+    // published by UserService locally and by CredentialEpochRegistry for changes made elsewhere
+    private final Cache<String, CachedUser> userCache;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${security.user-cache.ttl-ms:30000}") long ttlMs,
+                                    @Value("${security.user-cache.max-size:10000}") long maxSize) {
         this.userRepository = userRepository;
+        this.userCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "security.user-details");
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        CachedUser user = userCache.get(username, this::findActiveUser);
+
+        // A new instance on every call: Spring Security erases the password of the returned principal
+        return new AuthenticatedUser(
+                user.username(),
+                user.password(),
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")),
+                user.credentialEpoch()
+        );
+    }
+
+    /**
+     * Stores a hash produced at the current cost after a successful login with a legacy or weaker hash.
+     * The plain password is unchanged, so the credential epoch is kept and issued tokens stay valid.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        userCache.invalidate(user.getUsername());
+
+        long credentialEpoch = user instanceof AuthenticatedUser authenticatedUser
+                ? authenticatedUser.getCredentialEpoch()
+                : 0L;
+        return new AuthenticatedUser(user.getUsername(), newPassword, user.getAuthorities(), credentialEpoch);
+    }
+
+    @EventListener
+    public void onCredentialsChanged(UserCredentialsChangedEvent event) {
+        userCache.invalidate(event.username());
+    }
+
+    @EventListener
+    public void onCredentialsChanged(UserCredentialsBatchChangedEvent event) {
+        userCache.invalidateAll(event.changes().stream().map(UserCredentialsChangedEvent::username).toList());
+    }
+
+    private CachedUser findActiveUser(String username) {
         User user = userRepository.findByUsernameAndIsActiveTrue(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found or inactive: " + username));
         
-        return new org.springframework.security.core.userdetails.User(
+        return new CachedUser(
                 user.getUsername(),
                 user.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                user.getCredentialEpoch() != null ? user.getCredentialEpoch() : 0L
         );
     }
-} 
\ No newline at end of file
+
+    private record CachedUser(String username, String password, long credentialEpoch) {
+    }
+}
@@ -0,0 +1,309 @@
+package com.seek.test.seek_test.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.seek.test.seek_test.dto.CustomerPageResponseDto;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the customer payloads, which are most of what the API writes.
+ * They produce the same bytes as the default bean serializers (same property order, nulls
+ * omitted, ISO-8601 dates) without the per-property reflection and the per-date formatter,
+ * and write property names from pre-encoded strings.
+ *
+ * Spring Boot registers Module beans in the application ObjectMapper, so this applies to the
+ * JSON responses and the NDJSON stream. When dates are written as timestamps (the CBOR and
+ * Smile mappers) or a JSON view is active, the default serializer is used instead.
+ *
+ * Enabled with {@code customer.json.optimized-serializer=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "customer.json.optimized-serializer", havingValue = "true")
+public class CustomerJsonModule extends SimpleModule {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializableString LAST_NAME = new SerializedString("lastName");
+    private static final SerializableString FULL_NAME = new SerializedString("fullName");
+    private static final SerializableString AGE = new SerializedString("age");
+    private static final SerializableString BIRTH_DATE = new SerializedString("birthDate");
+    private static final SerializableString ESTIMATED_LIFE_EXPECTANCY = new SerializedString("estimatedLifeExpectancy");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString PAGE_NUMBER = new SerializedString("pageNumber");
+    private static final SerializableString PAGE_SIZE = new SerializedString("pageSize");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString LAST = new SerializedString("last");
+    private static final SerializableString HAS_NEXT = new SerializedString("hasNext");
+    private static final SerializableString HAS_PREVIOUS = new SerializedString("hasPrevious");
+
+    public CustomerJsonModule() {
+        super("CustomerJsonModule");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                Class<?> type = beanDesc.getBeanClass();
+                if (type == CustomerResponseDto.class) {
+                    return new CustomerSerializer((JsonSerializer<Object>) serializer);
+                }
+                if (type == CustomerPageResponseDto.class) {
+                    return new CustomerPageSerializer((JsonSerializer<Object>) serializer);
+                }
+                return serializer;
+            }
+        });
+    }
+
+    /**
+     * Writes a customer's properties, without the surrounding braces
+     */
+    static void writeCustomerFields(CustomerResponseDto customer, JsonGenerator gen) throws IOException {
+        if (customer.getId() != null) {
+            gen.writeFieldName(ID);
+            gen.writeNumber(customer.getId());
+        }
+        if (customer.getFirstName() != null) {
+            gen.writeFieldName(FIRST_NAME);
+            gen.writeString(customer.getFirstName());
+        }
+        if (customer.getLastName() != null) {
+            gen.writeFieldName(LAST_NAME);
+            gen.writeString(customer.getLastName());
+        }
+        if (customer.getFullName() != null) {
+            gen.writeFieldName(FULL_NAME);
+            gen.writeString(customer.getFullName());
+        }
+        if (customer.getAge() != null) {
+            gen.writeFieldName(AGE);
+            gen.writeNumber(customer.getAge());
+        }
+        if (customer.getBirthDate() != null) {
+            gen.writeFieldName(BIRTH_DATE);
+            writeDate(customer.getBirthDate(), gen);
+        }
+        if (customer.getEstimatedLifeExpectancy() != null) {
+            gen.writeFieldName(ESTIMATED_LIFE_EXPECTANCY);
+            writeDate(customer.getEstimatedLifeExpectancy(), gen);
+        }
+        if (customer.getCreatedAt() != null) {
+            gen.writeFieldName(CREATED_AT);
+            writeDateTime(customer.getCreatedAt(), gen);
+        }
+        if (customer.getUpdatedAt() != null) {
+            gen.writeFieldName(UPDATED_AT);
+            writeDateTime(customer.getUpdatedAt(), gen);
+        }
+    }
+
+    /**
+     * Same text as LocalDate.toString(), which is what the default serializer writes
+     */
+    static void writeDate(LocalDate date, JsonGenerator gen) throws IOException {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(date.toString());
+            return;
+        }
+        char[] buffer = new char[10];
+        appendDate(buffer, date);
+        gen.writeString(buffer, 0, 10);
+    }
+
+    /**
+     * Same text as DateTimeFormatter.ISO_LOCAL_DATE_TIME, which is what the default serializer
+     * writes: seconds always present, fraction only when non-zero and without trailing zeros
+     */
+    static void writeDateTime(LocalDateTime dateTime, JsonGenerator gen) throws IOException {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = new char[29];
+        appendDate(buffer, dateTime.toLocalDate());
+        buffer[10] = 'T';
+        appendTwoDigits(buffer, 11, dateTime.getHour());
+        buffer[13] = ':';
+        appendTwoDigits(buffer, 14, dateTime.getMinute());
+        buffer[16] = ':';
+        appendTwoDigits(buffer, 17, dateTime.getSecond());
+        int length = 19;
+        int nano = dateTime.getNano();
+        if (nano > 0) {
+            buffer[length++] = '.';
+            for (int divisor = 100_000_000; divisor > 0 && nano > 0; divisor /= 10) {
+                buffer[length++] = (char) ('0' + nano / divisor);
+                nano %= divisor;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void appendDate(char[] buffer, LocalDate date) {
+        int year = date.getYear();
+        buffer[0] = (char) ('0' + year / 1000);
+        buffer[1] = (char) ('0' + year / 100 % 10);
+        buffer[2] = (char) ('0' + year / 10 % 10);
+        buffer[3] = (char) ('0' + year % 10);
+        buffer[4] = '-';
+        appendTwoDigits(buffer, 5, date.getMonthValue());
+        buffer[7] = '-';
+        appendTwoDigits(buffer, 8, date.getDayOfMonth());
+    }
+
+    private static void appendTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * The hand-written path only applies to plain JSON output; anything else goes to the default serializer
+     */
+    private static boolean useDefault(SerializerProvider provider) {
+        return provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) || provider.getActiveView() != null;
+    }
+
+    /**
+     * Base for the serializers that fall back to the bean serializer Jackson built for the type
+     */
+    private abstract static class FallbackSerializer<T> extends StdSerializer<T>
+            implements ResolvableSerializer, ContextualSerializer {
+
+        protected final JsonSerializer<Object> defaultSerializer;
+
+        FallbackSerializer(Class<T> type, JsonSerializer<Object> defaultSerializer) {
+            super(type);
+            this.defaultSerializer = defaultSerializer;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (defaultSerializer instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            if (defaultSerializer instanceof ContextualSerializer contextual) {
+                JsonSerializer<?> contextualized = contextual.createContextual(provider, property);
+                if (contextualized != defaultSerializer) {
+                    return withDefault((JsonSerializer<Object>) contextualized);
+                }
+            }
+            return this;
+        }
+
+        protected abstract JsonSerializer<T> withDefault(JsonSerializer<Object> defaultSerializer);
+    }
+
+    static final class CustomerSerializer extends FallbackSerializer<CustomerResponseDto> {
+
+        CustomerSerializer(JsonSerializer<Object> defaultSerializer) {
+            super(CustomerResponseDto.class, defaultSerializer);
+        }
+
+        @Override
+        public void serialize(CustomerResponseDto customer, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (useDefault(provider)) {
+                defaultSerializer.serialize(customer, gen, provider);
+                return;
+            }
+            gen.writeStartObject(customer);
+            writeCustomerFields(customer, gen);
+            gen.writeEndObject();
+        }
+
+        @Override
+        protected JsonSerializer<CustomerResponseDto> withDefault(JsonSerializer<Object> defaultSerializer) {
+            return new CustomerSerializer(defaultSerializer);
+        }
+    }
+
+    static final class CustomerPageSerializer extends FallbackSerializer<CustomerPageResponseDto> {
+
+        CustomerPageSerializer(JsonSerializer<Object> defaultSerializer) {
+            super(CustomerPageResponseDto.class, defaultSerializer);
+        }
+
+        @Override
+        public void serialize(CustomerPageResponseDto page, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (useDefault(provider)) {
+                defaultSerializer.serialize(page, gen, provider);
+                return;
+            }
+            gen.writeStartObject(page);
+            gen.writeFieldName(CONTENT);
+            List<CustomerResponseDto> content = page.getContent();
+            if (content == null) {
+                gen.writeNull();
+            } else {
+                gen.writeStartArray(content, content.size());
+                for (CustomerResponseDto customer : content) {
+                    if (customer == null) {
+                        gen.writeNull();
+                    } else {
+                        gen.writeStartObject(customer);
+                        writeCustomerFields(customer, gen);
+                        gen.writeEndObject();
+                    }
+                }
+                gen.writeEndArray();
+            }
+            gen.writeFieldName(PAGE_NUMBER);
+            gen.writeNumber(page.getPageNumber());
+            gen.writeFieldName(PAGE_SIZE);
+            gen.writeNumber(page.getPageSize());
+            gen.writeFieldName(TOTAL_ELEMENTS);
+            gen.writeNumber(page.getTotalElements());
+            gen.writeFieldName(TOTAL_PAGES);
+            gen.writeNumber(page.getTotalPages());
+            gen.writeFieldName(FIRST);
+            gen.writeBoolean(page.isFirst());
+            gen.writeFieldName(LAST);
+            gen.writeBoolean(page.isLast());
+            gen.writeFieldName(HAS_NEXT);
+            gen.writeBoolean(page.isHasNext());
+            gen.writeFieldName(HAS_PREVIOUS);
+            gen.writeBoolean(page.isHasPrevious());
+            gen.writeEndObject();
+        }
+
+        @Override
+        protected JsonSerializer<CustomerPageResponseDto> withDefault(JsonSerializer<Object> defaultSerializer) {
+            return new CustomerPageSerializer(defaultSerializer);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.seek.test.seek_test.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "customer.snapshot")
+public class CustomerSnapshotProperties {
+
+    private boolean enabled = false;
+    private String path = "data/customer-snapshot.bin";
+    private Long writeIntervalMs = 600000L;
+    private Long refreshIntervalMs = 5000L;
+    private Long catchUpOverlapMs = 5000L;
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public Long getWriteIntervalMs() {
+        return writeIntervalMs;
+    }
+
+    public void setWriteIntervalMs(Long writeIntervalMs) {
+        this.writeIntervalMs = writeIntervalMs;
+    }
+
+    public Long getRefreshIntervalMs() {
+        return refreshIntervalMs;
+    }
+
+    public void setRefreshIntervalMs(Long refreshIntervalMs) {
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public Long getCatchUpOverlapMs() {
+        return catchUpOverlapMs;
+    }
+
+    public void setCatchUpOverlapMs(Long catchUpOverlapMs) {
+        this.catchUpOverlapMs = catchUpOverlapMs;
+    }
+}
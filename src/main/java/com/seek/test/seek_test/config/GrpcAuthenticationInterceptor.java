@@ -0,0 +1,156 @@
+package com.seek.test.seek_test.config;
+
+import com.seek.test.seek_test.grpc.CustomerServiceGrpc;
+import com.seek.test.seek_test.service.ApiKeyRegistry;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Set;
+
+/**
+ * Authenticates gRPC calls from their metadata, the way JwtAuthenticationFilter and
+ * ApiKeyAuthenticationFilter do for HTTP: "authorization: Bearer &lt;jwt&gt;" or
+ * "x-api-key: &lt;key&gt;". Calls without a valid credential are closed with UNAUTHENTICATED
+ * and calls lacking the customer read/write authority with PERMISSION_DENIED.
+ *
+ * The authentication is placed in the SecurityContextHolder around every listener callback,
+ * since gRPC may deliver them on different threads.
+ */
+@GrpcGlobalServerInterceptor
+public class GrpcAuthenticationInterceptor implements ServerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcAuthenticationInterceptor.class);
+
+    static final Metadata.Key<String> AUTHORIZATION_KEY =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    static final Metadata.Key<String> API_KEY_KEY =
+            Metadata.Key.of("x-api-key", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Set<String> WRITE_METHODS = Set.of(
+            CustomerServiceGrpc.getCreateCustomerMethod().getFullMethodName());
+
+    private final JwtTokenAuthenticator jwtTokenAuthenticator;
+    private final ApiKeyRegistry apiKeyRegistry;
+
+    public GrpcAuthenticationInterceptor(JwtTokenAuthenticator jwtTokenAuthenticator, ApiKeyRegistry apiKeyRegistry) {
+        this.jwtTokenAuthenticator = jwtTokenAuthenticator;
+        this.apiKeyRegistry = apiKeyRegistry;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        Authentication authentication = authenticate(headers);
+        if (authentication == null) {
+            call.close(Status.UNAUTHENTICATED.withDescription("Missing or invalid credentials"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        String methodName = call.getMethodDescriptor().getFullMethodName();
+        String requiredScope = WRITE_METHODS.contains(methodName) ? "SCOPE_customers:write" : "SCOPE_customers:read";
+        if (!hasAnyAuthority(authentication, "ROLE_USER", requiredScope)) {
+            call.close(Status.PERMISSION_DENIED.withDescription("Access denied"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        return new AuthenticatedListener<>(next.startCall(call, headers), authentication);
+    }
+
+    private Authentication authenticate(Metadata headers) {
+        String authorization = headers.get(AUTHORIZATION_KEY);
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                UserDetails userDetails = jwtTokenAuthenticator.resolveUser(authorization.substring(7));
+                if (userDetails != null) {
+                    return UsernamePasswordAuthenticationToken.authenticated(
+                            userDetails, null, userDetails.getAuthorities());
+                }
+            } catch (Exception e) {
+                log.debug("Rejected gRPC call with an invalid JWT: {}", e.getMessage());
+            }
+            return null;
+        }
+
+        String apiKey = headers.get(API_KEY_KEY);
+        if (apiKey != null && !apiKey.isBlank()) {
+            return apiKeyRegistry.authenticate(apiKey)
+                    .map(principal -> (Authentication) UsernamePasswordAuthenticationToken.authenticated(
+                            principal.name(), null, principal.authorities()))
+                    .orElse(null);
+        }
+        return null;
+    }
+
+    private static boolean hasAnyAuthority(Authentication authentication, String... authorities) {
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            for (String authority : authorities) {
+                if (authority.equals(granted.getAuthority())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class AuthenticatedListener<ReqT>
+            extends ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT> {
+
+        private final Authentication authentication;
+
+        AuthenticatedListener(ServerCall.Listener<ReqT> delegate, Authentication authentication) {
+            super(delegate);
+            this.authentication = authentication;
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            runAuthenticated(() -> super.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            runAuthenticated(super::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            runAuthenticated(super::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            runAuthenticated(super::onComplete);
+        }
+
+        @Override
+        public void onReady() {
+            runAuthenticated(super::onReady);
+        }
+
+        private void runAuthenticated(Runnable callback) {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+            try {
+                callback.run();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }
+    }
+}
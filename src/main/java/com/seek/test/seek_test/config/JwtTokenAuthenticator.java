@@ -0,0 +1,96 @@
+package com.seek.test.seek_test.config;
+
+import com.seek.test.seek_test.service.CredentialEpochRegistry;
+import com.seek.test.seek_test.service.JwtService;
+import com.seek.test.seek_test.service.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Turns a bearer JWT into the authenticated principal, shared by the HTTP filter and the
+ * gRPC interceptor so both transports apply the same cache and revocation rules.
+ */
+@Component
+public class JwtTokenAuthenticator {
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final CredentialEpochRegistry credentialEpochRegistry;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenAuthenticator(JwtService jwtService, UserDetailsService userDetailsService,
+                                 CredentialEpochRegistry credentialEpochRegistry,
+                                 VerifiedTokenCache verifiedTokenCache) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.credentialEpochRegistry = credentialEpochRegistry;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * Resolves the principal of the token. Tokens seen before are served from the verified
+     * token cache without any crypto; otherwise the token is verified once and, when it carries
+     * roles and a credential epoch, cached. Tokens issued without them fall back to loading the user.
+     * Returns null when the token was revoked by a password change or deactivation.
+     */
+    public UserDetails resolveUser(String jwt) {
+        Optional<VerifiedTokenCache.VerifiedToken> cached = verifiedTokenCache.get(jwt);
+        if (cached.isPresent()) {
+            return toPrincipal(cached.get());
+        }
+
+        // Signature and expiration are verified here, only on a cache miss
+        Claims claims = jwtService.parseToken(jwt);
+        String username = claims.getSubject();
+        if (username == null) {
+            return null;
+        }
+
+        Object roles = claims.get(JwtService.ROLES_CLAIM);
+        Number credentialEpoch = claims.get(JwtService.CREDENTIAL_EPOCH_CLAIM, Number.class);
+        if (roles instanceof Collection<?> roleNames && credentialEpoch != null) {
+            VerifiedTokenCache.VerifiedToken verified = new VerifiedTokenCache.VerifiedToken(
+                    username,
+                    roleNames.stream().map(String::valueOf).toList(),
+                    credentialEpoch.longValue(),
+                    claims.getExpiration().toInstant());
+            verifiedTokenCache.put(jwt, verified);
+            return toPrincipal(verified);
+        }
+
+        return loadUser(username, null);
+    }
+
+    /**
+     * Builds the principal from a verified token if its credential epoch is still current
+     */
+    private UserDetails toPrincipal(VerifiedTokenCache.VerifiedToken token) {
+        if (!credentialEpochRegistry.isReady()) {
+            return loadUser(token.username(), token.credentialEpoch());
+        }
+        if (!credentialEpochRegistry.isCurrent(token.username(), token.credentialEpoch())) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = token.roles().stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role))
+                .toList();
+        return new AuthenticatedUser(token.username(), "", authorities, token.credentialEpoch());
+    }
+
+    private UserDetails loadUser(String username, Long credentialEpoch) {
+        UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (userDetails instanceof AuthenticatedUser user && credentialEpoch != null
+                && user.getCredentialEpoch() != credentialEpoch) {
+            return null;
+        }
+        return userDetails;
+    }
+}
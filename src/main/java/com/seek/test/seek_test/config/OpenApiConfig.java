@@ -35,7 +35,8 @@ public class OpenApiConfig {
                 ))
                 .addSecurityItem(new SecurityRequirement().addList("Bearer Authentication"))
                 .components(new Components()
-                        .addSecuritySchemes("Bearer Authentication", createAPIKeyScheme()));
+                        .addSecuritySchemes("Bearer Authentication", createAPIKeyScheme())
+                        .addSecuritySchemes("API Key", createServiceKeyScheme()));
     }
 
     private SecurityScheme createAPIKeyScheme() {
@@ -45,4 +46,12 @@ public class OpenApiConfig {
                 .scheme("bearer")
                 .description("Enter the JWT token obtained from the login endpoint");
     }
+
+    private SecurityScheme createServiceKeyScheme() {
+        return new SecurityScheme()
+                .type(SecurityScheme.Type.APIKEY)
+                .in(SecurityScheme.In.HEADER)
+                .name("X-API-Key")
+                .description("API key for service-to-service calls, limited to the scopes granted to the key");
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.seek.test.seek_test.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+    
+    // Fixed BCrypt cost; 0 calibrates it at startup against the latency budget
+    private int strength = 0;
+    private long targetLatencyMs = 250L;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+    
+    // Getters and Setters
+    public int getStrength() {
+        return strength;
+    }
+    
+    public void setStrength(int strength) {
+        this.strength = strength;
+    }
+    
+    public long getTargetLatencyMs() {
+        return targetLatencyMs;
+    }
+    
+    public void setTargetLatencyMs(long targetLatencyMs) {
+        this.targetLatencyMs = targetLatencyMs;
+    }
+    
+    public int getMinStrength() {
+        return minStrength;
+    }
+    
+    public void setMinStrength(int minStrength) {
+        this.minStrength = minStrength;
+    }
+    
+    public int getMaxStrength() {
+        return maxStrength;
+    }
+    
+    public void setMaxStrength(int maxStrength) {
+        this.maxStrength = maxStrength;
+    }
+}
@@ -0,0 +1,152 @@
+package com.seek.test.seek_test.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    
+    private boolean enabled = true;
+    
+    // Limit applied to the requests that match no rule
+    private long defaultCapacity = 100;
+    private double defaultRefillPerSecond = 50;
+    
+    // Bounds of the bucket map: least recently used and idle buckets are dropped
+    private long maxBuckets = 100_000;
+    private long idleExpiryMs = 600_000L;
+    
+    private List<String> excludedPaths = new ArrayList<>(List.of("/actuator/**"));
+    private List<Rule> rules = new ArrayList<>();
+    
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public long getDefaultCapacity() {
+        return defaultCapacity;
+    }
+    
+    public void setDefaultCapacity(long defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+    
+    public double getDefaultRefillPerSecond() {
+        return defaultRefillPerSecond;
+    }
+    
+    public void setDefaultRefillPerSecond(double defaultRefillPerSecond) {
+        this.defaultRefillPerSecond = defaultRefillPerSecond;
+    }
+    
+    public long getMaxBuckets() {
+        return maxBuckets;
+    }
+    
+    public void setMaxBuckets(long maxBuckets) {
+        this.maxBuckets = maxBuckets;
+    }
+    
+    public long getIdleExpiryMs() {
+        return idleExpiryMs;
+    }
+    
+    public void setIdleExpiryMs(long idleExpiryMs) {
+        this.idleExpiryMs = idleExpiryMs;
+    }
+    
+    public List<String> getExcludedPaths() {
+        return excludedPaths;
+    }
+    
+    public void setExcludedPaths(List<String> excludedPaths) {
+        this.excludedPaths = excludedPaths;
+    }
+    
+    public List<Rule> getRules() {
+        return rules;
+    }
+    
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+    
+    /**
+     * How the requests are grouped into buckets
+     */
+    public enum KeyBy {
+        // JWT subject for authenticated requests, client IP otherwise
+        PRINCIPAL,
+        IP
+    }
+    
+    /**
+     * Limit for the requests matching a path pattern (and optionally an HTTP method)
+     */
+    public static class Rule {
+        
+        private String name;
+        private String pathPattern;
+        private String method;
+        private KeyBy keyBy = KeyBy.PRINCIPAL;
+        private long capacity;
+        private double refillPerSecond;
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public String getPathPattern() {
+            return pathPattern;
+        }
+        
+        public void setPathPattern(String pathPattern) {
+            this.pathPattern = pathPattern;
+        }
+        
+        public String getMethod() {
+            return method;
+        }
+        
+        public void setMethod(String method) {
+            this.method = method;
+        }
+        
+        public KeyBy getKeyBy() {
+            return keyBy;
+        }
+        
+        public void setKeyBy(KeyBy keyBy) {
+            this.keyBy = keyBy;
+        }
+        
+        public long getCapacity() {
+            return capacity;
+        }
+        
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+        
+        public double getRefillPerSecond() {
+            return refillPerSecond;
+        }
+        
+        public void setRefillPerSecond(double refillPerSecond) {
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
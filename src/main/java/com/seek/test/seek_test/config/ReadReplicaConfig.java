@@ -0,0 +1,90 @@
+package com.seek.test.seek_test.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured data source with one that sends read-only transactions to the
+ * read replicas. The primary and every replica get their own Hikari pool, sized with the
+ * spring.datasource.hikari.* settings and with pool metrics named after the target. Replica
+ * pools wait a shorter connection timeout, since a read they cannot serve goes to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReadReplicaProperties properties,
+                                                             Environment environment,
+                                                             MeterRegistry meterRegistry) {
+        if (properties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("datasource.routing.enabled is true but no datasource.routing.replicas are configured");
+        }
+
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = pool(ReplicaRoutingDataSource.PRIMARY, dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+                dataSourceProperties, binder, meterRegistry);
+
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>(properties.getReplicas().size());
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + (i + 1);
+            HikariDataSource pool = pool(name, replica.getUrl(),
+                    replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername(),
+                    replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword(),
+                    dataSourceProperties, binder, meterRegistry);
+            pool.setConnectionTimeout(properties.getReplicaConnectionTimeoutMs());
+            replicas.add(new ReplicaRoutingDataSource.Replica(name, pool, replica.getWeight()));
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas,
+                Duration.ofMillis(properties.getReadYourWritesWindowMs()),
+                properties.getReadYourWritesMaxPrincipals(),
+                properties.getHealthCheckTimeoutSeconds(),
+                meterRegistry);
+    }
+
+    /**
+     * Data source used by JPA, JDBC and Flyway: the connection is only fetched from the
+     * routing data source at the first statement, once the transaction is read-only or not
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         DataSourceProperties dataSourceProperties, Binder binder,
+                                         MeterRegistry meterRegistry) {
+        HikariDataSource pool = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
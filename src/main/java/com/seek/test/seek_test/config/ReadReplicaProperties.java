@@ -0,0 +1,136 @@
+package com.seek.test.seek_test.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    // Replicas are checked with Connection.isValid; a failed check takes them out of rotation
+    private long healthCheckIntervalMs = 5000L;
+    private int healthCheckTimeoutSeconds = 2;
+
+    // Wait for a replica connection before the read goes to the primary (instead of spring.datasource.hikari.connection-timeout)
+    private long replicaConnectionTimeoutMs = 1000L;
+
+    // After a committed write, reads of the same principal stay on the primary (0 disables)
+    private long readYourWritesWindowMs = 1000L;
+    private long readYourWritesMaxPrincipals = 100_000L;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getHealthCheckIntervalMs() {
+        return healthCheckIntervalMs;
+    }
+
+    public void setHealthCheckIntervalMs(long healthCheckIntervalMs) {
+        this.healthCheckIntervalMs = healthCheckIntervalMs;
+    }
+
+    public int getHealthCheckTimeoutSeconds() {
+        return healthCheckTimeoutSeconds;
+    }
+
+    public void setHealthCheckTimeoutSeconds(int healthCheckTimeoutSeconds) {
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+    }
+
+    public long getReplicaConnectionTimeoutMs() {
+        return replicaConnectionTimeoutMs;
+    }
+
+    public void setReplicaConnectionTimeoutMs(long replicaConnectionTimeoutMs) {
+        this.replicaConnectionTimeoutMs = replicaConnectionTimeoutMs;
+    }
+
+    public long getReadYourWritesWindowMs() {
+        return readYourWritesWindowMs;
+    }
+
+    public void setReadYourWritesWindowMs(long readYourWritesWindowMs) {
+        this.readYourWritesWindowMs = readYourWritesWindowMs;
+    }
+
+    public long getReadYourWritesMaxPrincipals() {
+        return readYourWritesMaxPrincipals;
+    }
+
+    public void setReadYourWritesMaxPrincipals(long readYourWritesMaxPrincipals) {
+        this.readYourWritesMaxPrincipals = readYourWritesMaxPrincipals;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    /**
+     * Connection to a read replica; username and password default to the primary's
+     */
+    public static class Replica {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int weight = 1;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public void setWeight(int weight) {
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.seek.test.seek_test.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sends the connections of read-only transactions to a read replica and everything else to
+ * the primary. Replicas are picked at random in proportion to their weight among the ones
+ * that passed the last health check; a replica that fails to give a connection is taken out
+ * of rotation and the read goes to the primary. A replica whose pool is only saturated stays
+ * in rotation, and just that read goes to the primary.
+ *
+ * After a principal commits a write, its reads stay on the primary for the read-your-writes
+ * window, so it does not read data older than its own write while the replicas catch up.
+ *
+ * The transaction is only known to be read-only once it has started, so this data source has
+ * to sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which fetches the connection at the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Target> replicas;
+    private final Cache<String, Boolean> recentWriters;
+    private final int healthCheckTimeoutSeconds;
+    private final Counter primaryReads;
+    private final Counter primaryWrites;
+
+    /**
+     * Connection pool of a replica and its share of the reads
+     */
+    public record Replica(String name, DataSource dataSource, int weight) {
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Duration readYourWritesWindow,
+                                    long readYourWritesMaxPrincipals, int healthCheckTimeoutSeconds,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+        this.recentWriters = readYourWritesWindow.isZero() || readYourWritesWindow.isNegative()
+                ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(readYourWritesWindow)
+                        .maximumSize(readYourWritesMaxPrincipals)
+                        .build();
+        this.primaryReads = connectionCounter(meterRegistry, PRIMARY, "read-only");
+        this.primaryWrites = connectionCounter(meterRegistry, PRIMARY, "read-write");
+
+        this.replicas = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.weight() < 0) {
+                throw new IllegalArgumentException("Replica " + replica.name() + " has a negative weight: " + replica.weight());
+            }
+            Target target = new Target(replica, connectionCounter(meterRegistry, replica.name(), "read-only"),
+                    Counter.builder("datasource.routing.replica.failures")
+                            .description("Connections a replica failed to give, which took it out of rotation")
+                            .tag("target", replica.name())
+                            .register(meterRegistry),
+                    Counter.builder("datasource.routing.replica.saturated")
+                            .description("Reads sent to the primary because the replica pool had no free connection in time")
+                            .tag("target", replica.name())
+                            .register(meterRegistry));
+            Gauge.builder("datasource.routing.replica.healthy", target, t -> t.healthy ? 1 : 0)
+                    .description("Whether the replica passed its last health check")
+                    .tag("target", replica.name())
+                    .register(meterRegistry);
+            this.replicas.add(target);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            primaryWrites.increment();
+            return connect(primary, username, password);
+        }
+
+        String principal = recentWriters != null ? currentPrincipal() : null;
+        if (principal == null || recentWriters.getIfPresent(principal) == null) {
+            Target replica = selectReplica();
+            if (replica != null) {
+                try {
+                    Connection connection = connect(replica.dataSource, username, password);
+                    replica.reads.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    if (isPoolExhausted(e)) {
+                        replica.saturated.increment();
+                        log.debug("Read replica {} pool is saturated, reading from the primary", replica.name);
+                    } else {
+                        replica.failures.increment();
+                        markDown(replica, e);
+                    }
+                }
+            }
+        }
+
+        primaryReads.increment();
+        return connect(primary, username, password);
+    }
+
+    /**
+     * Validates a connection of every replica, putting the ones that recovered back in rotation
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Target replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (!connection.isValid(healthCheckTimeoutSeconds)) {
+                    markDown(replica, null);
+                    continue;
+                }
+                if (!replica.healthy) {
+                    replica.healthy = true;
+                    log.info("Read replica {} is back in rotation", replica.name);
+                }
+            } catch (SQLException e) {
+                if (!isPoolExhausted(e)) {
+                    markDown(replica, e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Target replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Weighted random pick among the healthy replicas, or null when none is available
+     */
+    private Target selectReplica() {
+        int totalWeight = 0;
+        for (Target replica : replicas) {
+            if (replica.healthy) {
+                totalWeight += replica.weight;
+            }
+        }
+        if (totalWeight == 0) {
+            return null;
+        }
+
+        int point = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Target replica : replicas) {
+            if (replica.healthy) {
+                point -= replica.weight;
+                if (point < 0) {
+                    return replica;
+                }
+            }
+        }
+        // A replica went down while picking
+        return null;
+    }
+
+    /**
+     * Starts the read-your-writes window of the current principal when the transaction commits
+     */
+    private void recordWriteOnCommit() {
+        if (recentWriters == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(principal, Boolean.TRUE);
+            }
+        });
+    }
+
+    private void markDown(Target replica, SQLException cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica {} taken out of rotation: {}", replica.name,
+                    cause != null ? cause.getMessage() : "connection is not valid");
+        }
+    }
+
+    /**
+     * Whether the pool timed out waiting for a free connection while the database was reachable:
+     * Hikari then throws a SQLTransientConnectionException without a cause, and with the last
+     * connection failure as the cause when it could not open connections
+     */
+    static boolean isPoolExhausted(SQLException e) {
+        return e instanceof SQLTransientConnectionException && e.getCause() == null;
+    }
+
+    private static Connection connect(DataSource dataSource, String username, String password) throws SQLException {
+        return username != null ? dataSource.getConnection(username, password) : dataSource.getConnection();
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)
+                ? authentication.getName()
+                : null;
+    }
+
+    private static Counter connectionCounter(MeterRegistry meterRegistry, String target, String access) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out, by target and read-only or read-write")
+                .tag("target", target)
+                .tag("access", access)
+                .register(meterRegistry);
+    }
+
+    private static final class Target {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final int weight;
+        private final Counter reads;
+        private final Counter failures;
+        private final Counter saturated;
+        private volatile boolean healthy = true;
+
+        Target(Replica replica, Counter reads, Counter failures, Counter saturated) {
+            this.name = replica.name();
+            this.dataSource = replica.dataSource();
+            this.weight = replica.weight();
+            this.reads = reads;
+            this.failures = failures;
+            this.saturated = saturated;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.seek.test.seek_test.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -12,27 +15,38 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    private final ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
+
+    private final RateLimitFilter rateLimitFilter;
+
     private final UserDetailsService userDetailsService;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, UserDetailsService userDetailsService) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, ApiKeyAuthenticationFilter apiKeyAuthenticationFilter,
+                          RateLimitFilter rateLimitFilter, UserDetailsService userDetailsService) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.apiKeyAuthenticationFilter = apiKeyAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
         this.userDetailsService = userDetailsService;
     }
 
     @Bean
     @Profile("dev")
-    public SecurityFilterChain devSecurityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain devSecurityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -40,39 +54,63 @@ public class SecurityConfig {
                 .requestMatchers(
                     "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/api-docs/**", 
                     "/actuator/**", "/h2-console/**",
-                    "/api/v1/auth/login"
+                    "/api/v1/auth/login", "/api/v1/auth/refresh"
                 ).permitAll()
+                // Users (JWT) have full access; API keys only what their scopes grant
+                .requestMatchers("/api/v1/api-keys/**").hasRole("USER")
+                .requestMatchers(HttpMethod.GET, "/api/v1/customers/**").hasAnyAuthority("ROLE_USER", "SCOPE_customers:read")
+                .requestMatchers(HttpMethod.POST, "/api/v1/customers/batch", "/api/v1/customers/composite")
+                    .hasAnyAuthority("ROLE_USER", "SCOPE_customers:read")
+                .requestMatchers("/api/v1/customers/**").hasAnyAuthority("ROLE_USER", "SCOPE_customers:write")
+                .requestMatchers(HttpMethod.GET, "/api/v1/users/**").hasAnyAuthority("ROLE_USER", "SCOPE_users:read")
+                .requestMatchers("/api/v1/users/**").hasAnyAuthority("ROLE_USER", "SCOPE_users:write")
                 .anyRequest().authenticated()
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
-            .authenticationProvider(authenticationProvider())
+            .addFilterAfter(apiKeyAuthenticationFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, ApiKeyAuthenticationFilter.class)
+            .authenticationProvider(authenticationProvider)
             .headers(headers -> headers.frameOptions(frameOptionsConfig -> frameOptionsConfig.disable()));
         return http.build();
     }
 
     @Bean
     @Profile("prod")
-    public SecurityFilterChain prodSecurityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain prodSecurityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers(
                     "/actuator/health", "/actuator/info",
-                    "/api/v1/auth/login" // Allow public access to login endpoint
+                    "/api/v1/auth/login", "/api/v1/auth/refresh" // Allow public access to login and refresh endpoints
                 ).permitAll()
-                .anyRequest().authenticated() // JWT required for other endpoints
+                // Users (JWT) have full access; API keys only what their scopes grant
+                .requestMatchers("/api/v1/api-keys/**").hasRole("USER")
+                .requestMatchers(HttpMethod.GET, "/api/v1/customers/**").hasAnyAuthority("ROLE_USER", "SCOPE_customers:read")
+                .requestMatchers(HttpMethod.POST, "/api/v1/customers/batch", "/api/v1/customers/composite")
+                    .hasAnyAuthority("ROLE_USER", "SCOPE_customers:read")
+                .requestMatchers("/api/v1/customers/**").hasAnyAuthority("ROLE_USER", "SCOPE_customers:write")
+                .requestMatchers(HttpMethod.GET, "/api/v1/users/**").hasAnyAuthority("ROLE_USER", "SCOPE_users:read")
+                .requestMatchers("/api/v1/users/**").hasAnyAuthority("ROLE_USER", "SCOPE_users:write")
+                .anyRequest().authenticated() // JWT or API key required for other endpoints
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
-            .authenticationProvider(authenticationProvider());
+            .addFilterAfter(apiKeyAuthenticationFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, ApiKeyAuthenticationFilter.class)
+            .authenticationProvider(authenticationProvider);
         return http.build();
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // Rehash on successful login when the stored hash is legacy or weaker than the current cost
+        if (userDetailsService instanceof UserDetailsPasswordService userDetailsPasswordService) {
+            authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
+        }
         return authProvider;
     }
 
@@ -82,7 +120,18 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int strength = properties.getStrength() > 0
+                ? properties.getStrength()
+                : BCryptCostCalibrator.calibrate(properties.getTargetLatencyMs(), properties.getMinStrength(), properties.getMaxStrength());
+        Gauge.builder("security.password.hash.cost", () -> strength)
+                .description("BCrypt cost used for new password hashes")
+                .register(meterRegistry);
+
+        PasswordEncoder bcrypt = new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry);
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        // Hashes stored before the {bcrypt} prefix was introduced are still plain BCrypt
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return passwordEncoder;
     }
 }
\ No newline at end of file
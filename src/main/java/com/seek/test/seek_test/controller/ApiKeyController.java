@@ -0,0 +1,71 @@
+package com.seek.test.seek_test.controller;
+
+import com.seek.test.seek_test.dto.ApiKeyCreateResponseDto;
+import com.seek.test.seek_test.dto.ApiKeyRequestDto;
+import com.seek.test.seek_test.dto.ApiKeyResponseDto;
+import com.seek.test.seek_test.exception.ErrorResponse;
+import com.seek.test.seek_test.service.ApiKeyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/api-keys")
+@Tag(name = "API Key Management", description = "API keys for service-to-service authentication")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ApiKeyController {
+
+    private final ApiKeyService apiKeyService;
+
+    public ApiKeyController(ApiKeyService apiKeyService) {
+        this.apiKeyService = apiKeyService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Create a new API key", 
+               description = "Create an API key with the given scopes. The key is returned only in this response; " +
+                       "clients send it in the X-API-Key header.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "API key created successfully",
+            content = @Content(schema = @Schema(implementation = ApiKeyCreateResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data, unknown scope or duplicated name",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ApiKeyCreateResponseDto> createApiKey(@Valid @RequestBody ApiKeyRequestDto request) {
+        ApiKeyCreateResponseDto response = apiKeyService.createApiKey(request);
+        return ResponseEntity.status(201).body(response);
+    }
+
+    @GetMapping
+    @Operation(summary = "Get all API keys", 
+               description = "Retrieve all API keys (active and revoked) without the keys themselves")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "API keys retrieved successfully",
+            content = @Content(schema = @Schema(implementation = ApiKeyResponseDto.class)))
+    })
+    public ResponseEntity<List<ApiKeyResponseDto>> getAllApiKeys() {
+        return ResponseEntity.ok(apiKeyService.findAllApiKeys());
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Revoke API key", 
+               description = "Revoke an API key by ID; requests using it are rejected from then on")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "API key revoked successfully",
+            content = @Content(schema = @Schema(implementation = ApiKeyResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "API key not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<ApiKeyResponseDto> revokeApiKey(@PathVariable Long id) {
+        return ResponseEntity.ok(apiKeyService.revokeApiKey(id));
+    }
+}
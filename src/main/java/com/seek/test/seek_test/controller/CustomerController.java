@@ -1,12 +1,25 @@
 package com.seek.test.seek_test.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.seek.test.seek_test.dto.CompositeRequestDto;
+import com.seek.test.seek_test.dto.CompositeResponseDto;
+import com.seek.test.seek_test.dto.CustomerBatchRequestDto;
+import com.seek.test.seek_test.dto.CustomerBatchResponseDto;
+import com.seek.test.seek_test.dto.CustomerCountResponseDto;
+import com.seek.test.seek_test.dto.CustomerField;
+import com.seek.test.seek_test.dto.CustomerFilterDto;
 import com.seek.test.seek_test.dto.CustomerMetricsDto;
 import com.seek.test.seek_test.dto.CustomerPageResponseDto;
 import com.seek.test.seek_test.dto.CustomerRequestDto;
 import com.seek.test.seek_test.dto.CustomerResponseDto;
 import com.seek.test.seek_test.dto.DeleteResponseDto;
 import com.seek.test.seek_test.exception.ErrorResponse;
+import com.seek.test.seek_test.service.CustomerCompositeService;
 import com.seek.test.seek_test.service.CustomerService;
+import com.seek.test.seek_test.service.CustomerStreamLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,12 +28,28 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
 
 @RestController
 @RequestMapping("/api/v1/customers")
@@ -31,6 +60,9 @@ import org.springframework.web.bind.annotation.*;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final CustomerCompositeService customerCompositeService;
+    private final CustomerStreamLimiter customerStreamLimiter;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new customer", description = "Creates a new customer with the provided data")
@@ -104,12 +136,151 @@ public class CustomerController {
             @Parameter(description = "Page number (1-based). Default: 1. If 0 or negative, uses page 1. If exceeds total pages, returns last page", example = "1") 
             @RequestParam(value = "page", required = false) Integer page,
             @Parameter(description = "Number of elements per page (1-100). Default: 10", example = "10") 
-            @RequestParam(value = "size", required = false) Integer size) {
-        log.info("Received request to get customers with pagination - page: {}, size: {}", page, size);
-        CustomerPageResponseDto customers = customerService.getAllCustomersPaginated(page, size);
+            @RequestParam(value = "size", required = false) Integer size,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,fullName. Default: all fields. " +
+                    "Only the columns behind these fields are read", example = "id,fullName")
+            @RequestParam(value = "fields", required = false) String fields) {
+        log.info("Received request to get customers with pagination - page: {}, size: {}, fields: {}", page, size, fields);
+        CustomerPageResponseDto customers = customerService.getAllCustomersPaginated(page, size, CustomerField.parse(fields));
         return ResponseEntity.ok(customers);
     }
 
+    @GetMapping("/batch")
+    @Operation(summary = "Get several customers by ID",
+               description = "Returns one result per requested ID, in request order, with found=false for IDs " +
+                            "without an active customer. The maximum number of IDs per call is configurable " +
+                            "(customer.batch.max-ids); use the POST variant for long lists.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customers resolved successfully",
+            content = @Content(schema = @Schema(implementation = CustomerBatchResponseDto.class))),
+        @ApiResponse(responseCode = "422", description = "No IDs or too many IDs",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CustomerBatchResponseDto> getCustomersBatch(
+            @Parameter(description = "Comma-separated customer IDs", example = "3,1,40")
+            @RequestParam("ids") List<Long> ids) {
+        log.info("Received request to get {} customers by ID", ids.size());
+        return ResponseEntity.ok(customerService.getCustomersBatch(ids));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Get several customers by ID (long lists)",
+               description = "Same as GET /batch with the IDs in the request body. It is a read and only needs read access.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customers resolved successfully",
+            content = @Content(schema = @Schema(implementation = CustomerBatchResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "422", description = "Too many IDs",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CustomerBatchResponseDto> postCustomersBatch(
+            @Valid @RequestBody CustomerBatchRequestDto requestDto) {
+        log.info("Received request to get {} customers by ID", requestDto.getIds().size());
+        return ResponseEntity.ok(customerService.getCustomersBatch(requestDto.getIds()));
+    }
+
+    @PostMapping("/composite")
+    @Operation(summary = "Run several customer operations in one request",
+               description = "Runs an ordered list of operations (CREATE, UPDATE, DELETE, GET, BATCH_GET, LIST, METRICS) " +
+                            "and returns one result per operation with the status it would have had on its own endpoint. " +
+                            "With transactional=true all operations share one transaction and the first failure rolls " +
+                            "them back; otherwise consecutive reads run in parallel. Write operations need write access.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Operations run; see the status of each result",
+            content = @Content(schema = @Schema(implementation = CompositeResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid input data",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "422", description = "Too many operations",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CompositeResponseDto> runComposite(
+            @Valid @RequestBody CompositeRequestDto requestDto, Authentication authentication) {
+        log.info("Received composite request with {} operations", requestDto.getOperations().size());
+        boolean canWrite = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_USER".equals(authority.getAuthority())
+                        || "SCOPE_customers:write".equals(authority.getAuthority()));
+        return ResponseEntity.ok(customerCompositeService.execute(requestDto, canWrite));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream customers as NDJSON",
+               description = "Streams every active customer matching the optional filters as newline-delimited JSON, " +
+                            "one customer per line in ID order. Rows are read from a database cursor only as fast as " +
+                            "the client consumes them, so large listings are never buffered in memory.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Customer stream started",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = CustomerResponseDto.class))),
+        @ApiResponse(responseCode = "503", description = "Too many concurrent streams, retry after the Retry-After seconds",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamCustomers(
+            @Parameter(description = "Minimum age (inclusive)", example = "30")
+            @RequestParam(value = "minAge", required = false) Integer minAge,
+            @Parameter(description = "Maximum age (inclusive)", example = "39")
+            @RequestParam(value = "maxAge", required = false) Integer maxAge,
+            @Parameter(description = "First birth date (inclusive, ISO format)", example = "1985-01-01")
+            @RequestParam(value = "birthDateFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthDateFrom,
+            @Parameter(description = "Last birth date (inclusive, ISO format)", example = "1995-12-31")
+            @RequestParam(value = "birthDateTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthDateTo,
+            @Parameter(description = "First creation timestamp (inclusive, ISO format)", example = "2025-01-01T00:00:00")
+            @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Last creation timestamp (inclusive, ISO format)", example = "2025-12-31T23:59:59")
+            @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Last name prefix (case-insensitive)", example = "Gar")
+            @RequestParam(value = "lastNamePrefix", required = false) String lastNamePrefix,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,fullName. Default: all fields", example = "id,fullName")
+            @RequestParam(value = "fields", required = false) String fields,
+            HttpServletRequest request) {
+        log.info("Received request to stream customers");
+        Set<CustomerField> selectedFields = CustomerField.parse(fields);
+        CustomerFilterDto filter = CustomerFilterDto.builder()
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .birthDateFrom(birthDateFrom)
+                .birthDateTo(birthDateTo)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .lastNamePrefix(lastNamePrefix)
+                .build();
+
+        // Rows go through the servlet buffer; a write blocks while the client is behind,
+        // which stops the cursor until it catches up
+        ObjectWriter writer = objectMapper.writerFor(CustomerResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        CustomerStreamLimiter.Permit permit = customerStreamLimiter.acquire();
+        // The body may never run (executor full, async timeout or client gone before it starts),
+        // so the permit is also given back when the async request completes
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(permit, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                permit.release();
+            }
+        });
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                customerService.streamCustomers(filter, selectedFields, customer -> {
+                    try {
+                        writer.writeValue(generator, customer);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                permit.release();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get customer by ID", description = "Returns a specific customer by their ID")
     @ApiResponses(value = {
@@ -147,9 +318,12 @@ public class CustomerController {
                 }))
     })
     public ResponseEntity<CustomerResponseDto> getCustomerById(
-            @Parameter(description = "Customer ID") @PathVariable Long id) {
+            @Parameter(description = "Customer ID") @PathVariable Long id,
+            @Parameter(description = "Comma-separated fields to return, e.g. id,fullName. Default: all fields. " +
+                    "Only the columns behind these fields are read", example = "id,fullName")
+            @RequestParam(value = "fields", required = false) String fields) {
         log.info("Received request to get customer with ID: {}", id);
-        CustomerResponseDto customer = customerService.getCustomerById(id);
+        CustomerResponseDto customer = customerService.getCustomerById(id, CustomerField.parse(fields));
         return ResponseEntity.ok(customer);
     }
 
@@ -215,18 +389,82 @@ public class CustomerController {
     }
 
     @GetMapping("/metrics")
-    @Operation(summary = "Get customer metrics", description = "Returns statistics about customers")
+    @Operation(summary = "Get customer metrics",
+               description = "Returns statistics about customers. Optional age, birth date and creation date ranges " +
+                            "and a last name prefix restrict the statistics to the matching subset of active customers.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Metrics retrieved successfully",
             content = @Content(schema = @Schema(implementation = CustomerMetricsDto.class))),
         @ApiResponse(responseCode = "500", description = "Internal server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<CustomerMetricsDto> getCustomerMetrics() {
+    public ResponseEntity<CustomerMetricsDto> getCustomerMetrics(
+            @Parameter(description = "Minimum age (inclusive)", example = "30")
+            @RequestParam(value = "minAge", required = false) Integer minAge,
+            @Parameter(description = "Maximum age (inclusive)", example = "39")
+            @RequestParam(value = "maxAge", required = false) Integer maxAge,
+            @Parameter(description = "First birth date (inclusive, ISO format)", example = "1985-01-01")
+            @RequestParam(value = "birthDateFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthDateFrom,
+            @Parameter(description = "Last birth date (inclusive, ISO format)", example = "1995-12-31")
+            @RequestParam(value = "birthDateTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthDateTo,
+            @Parameter(description = "First creation timestamp (inclusive, ISO format)", example = "2025-01-01T00:00:00")
+            @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Last creation timestamp (inclusive, ISO format)", example = "2025-12-31T23:59:59")
+            @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Last name prefix (case-insensitive)", example = "Gar")
+            @RequestParam(value = "lastNamePrefix", required = false) String lastNamePrefix) {
         log.info("Received request to get customer metrics");
-        CustomerMetricsDto metrics = customerService.getCustomerMetrics();
+        if (minAge == null && maxAge == null && birthDateFrom == null && birthDateTo == null
+                && createdFrom == null && createdTo == null && (lastNamePrefix == null || lastNamePrefix.isEmpty())) {
+            return ResponseEntity.ok(customerService.getCustomerMetrics());
+        }
+        CustomerFilterDto filter = CustomerFilterDto.builder()
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .birthDateFrom(birthDateFrom)
+                .birthDateTo(birthDateTo)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .lastNamePrefix(lastNamePrefix)
+                .build();
+        CustomerMetricsDto metrics = customerService.getCustomerMetrics(filter);
         return ResponseEntity.ok(metrics);
     }
 
+    @GetMapping("/metrics/count")
+    @Operation(summary = "Count customers by filter",
+               description = "Returns the number of active customers matching an age range, birth months and a birth year range. " +
+                            "All filters are optional and combined with AND; birth months are combined with OR.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Count calculated successfully",
+            content = @Content(schema = @Schema(implementation = CustomerCountResponseDto.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<CustomerCountResponseDto> countCustomers(
+            @Parameter(description = "Minimum age (inclusive)", example = "30")
+            @RequestParam(value = "minAge", required = false) Integer minAge,
+            @Parameter(description = "Maximum age (inclusive)", example = "39")
+            @RequestParam(value = "maxAge", required = false) Integer maxAge,
+            @Parameter(description = "Birth months (1-12)", example = "1,2,3")
+            @RequestParam(value = "birthMonths", required = false) List<Integer> birthMonths,
+            @Parameter(description = "First birth year (inclusive)", example = "1985")
+            @RequestParam(value = "birthYearFrom", required = false) Integer birthYearFrom,
+            @Parameter(description = "Last birth year (inclusive)", example = "1995")
+            @RequestParam(value = "birthYearTo", required = false) Integer birthYearTo,
+            @Parameter(description = "Whether to include the IDs of the matching customers", example = "false")
+            @RequestParam(value = "includeIds", defaultValue = "false") boolean includeIds) {
+        log.info("Received request to count customers by filter");
+        CustomerFilterDto filter = CustomerFilterDto.builder()
+                .minAge(minAge)
+                .maxAge(maxAge)
+                .birthMonths(birthMonths)
+                .birthYearFrom(birthYearFrom)
+                .birthYearTo(birthYearTo)
+                .build();
+        CustomerCountResponseDto count = customerService.countCustomers(filter, includeIds);
+        return ResponseEntity.ok(count);
+    }
+
 
 } 
\ No newline at end of file
@@ -1,13 +1,18 @@
 package com.seek.test.seek_test.controller;
 
+import com.seek.test.seek_test.dto.BulkUserActionRequestDto;
+import com.seek.test.seek_test.dto.BulkUserActionResponseDto;
 import com.seek.test.seek_test.dto.UserRequestDto;
 import com.seek.test.seek_test.dto.UserCreateResponseDto;
-import com.seek.test.seek_test.dto.UserResponseDto;
+import com.seek.test.seek_test.dto.UserFilterDto;
+import com.seek.test.seek_test.dto.UserPageResponseDto;
 import com.seek.test.seek_test.dto.UserActionResponseDto;
 import com.seek.test.seek_test.dto.PasswordChangeRequestDto;
 import com.seek.test.seek_test.exception.ErrorResponse;
+import com.seek.test.seek_test.service.UserBulkService;
 import com.seek.test.seek_test.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,10 +20,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/api/v1/users")
@@ -28,8 +34,11 @@ public class UserController {
 
     private final UserService userService;
 
-    public UserController(UserService userService) {
+    private final UserBulkService userBulkService;
+
+    public UserController(UserService userService, UserBulkService userBulkService) {
         this.userService = userService;
+        this.userBulkService = userBulkService;
     }
 
     @PostMapping
@@ -87,52 +96,128 @@ public class UserController {
     }
 
     @GetMapping
-    @Operation(summary = "Get all users", 
-               description = "Retrieve list of all users (active and inactive)")
+    @Operation(summary = "Get users with pagination", 
+               description = "Retrieve a page of users (active and inactive) ordered by ID. Default: page 1, size 10. Max size: 100. " +
+                            "Optional active status, username prefix and creation range filters are applied by the database.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Users retrieved successfully",
-            content = @Content(schema = @Schema(implementation = UserResponseDto.class),
+            content = @Content(schema = @Schema(implementation = UserPageResponseDto.class),
                 examples = {
                     @io.swagger.v3.oas.annotations.media.ExampleObject(
-                        name = "All Users",
-                        value = "[\n" +
-                                "  {\n" +
-                                "    \"id\": 1,\n" +
-                                "    \"username\": \"admin\",\n" +
-                                "    \"isActive\": true,\n" +
-                                "    \"createdAt\": \"2025-01-03T10:00:00\",\n" +
-                                "    \"updatedAt\": \"2025-01-03T10:00:00\"\n" +
-                                "  },\n" +
-                                "  {\n" +
-                                "    \"id\": 2,\n" +
-                                "    \"username\": \"john\",\n" +
-                                "    \"isActive\": false,\n" +
-                                "    \"createdAt\": \"2025-01-03T10:00:00\",\n" +
-                                "    \"updatedAt\": \"2025-01-03T10:00:00\"\n" +
-                                "  }\n" +
-                                "]"
+                        name = "Paginated Users",
+                        value = "{\n" +
+                                "  \"content\": [\n" +
+                                "    {\n" +
+                                "      \"id\": 1,\n" +
+                                "      \"username\": \"admin\",\n" +
+                                "      \"isActive\": true,\n" +
+                                "      \"createdAt\": \"2025-01-03T10:00:00\",\n" +
+                                "      \"updatedAt\": \"2025-01-03T10:00:00\"\n" +
+                                "    }\n" +
+                                "  ],\n" +
+                                "  \"pageNumber\": 1,\n" +
+                                "  \"pageSize\": 10,\n" +
+                                "  \"totalElements\": 25,\n" +
+                                "  \"totalPages\": 3,\n" +
+                                "  \"hasNext\": true,\n" +
+                                "  \"hasPrevious\": false\n" +
+                                "}"
                     )
                 })),
         @ApiResponse(responseCode = "500", description = "Internal server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        List<UserResponseDto> users = userService.findAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<UserPageResponseDto> getAllUsers(
+            @Parameter(description = "Page number (1-based). Default: 1", example = "1")
+            @RequestParam(value = "page", required = false) Integer page,
+            @Parameter(description = "Number of elements per page (1-100). Default: 10", example = "10")
+            @RequestParam(value = "size", required = false) Integer size,
+            @Parameter(description = "Only active (true) or inactive (false) users", example = "true")
+            @RequestParam(value = "active", required = false) Boolean active,
+            @Parameter(description = "Username prefix", example = "jo")
+            @RequestParam(value = "usernamePrefix", required = false) String usernamePrefix,
+            @Parameter(description = "First creation timestamp (inclusive, ISO format)", example = "2025-01-01T00:00:00")
+            @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Last creation timestamp (inclusive, ISO format)", example = "2025-12-31T23:59:59")
+            @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        UserFilterDto filter = UserFilterDto.builder()
+                .active(active)
+                .usernamePrefix(usernamePrefix)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+        return ResponseEntity.ok(userService.findUsers(filter, page, size));
     }
 
     @GetMapping("/active")
     @Operation(summary = "Get active users only", 
-               description = "Retrieve list of only active users")
+               description = "Retrieve a page of active users ordered by ID. Default: page 1, size 10. Max size: 100.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Active users retrieved successfully",
-            content = @Content(schema = @Schema(implementation = UserResponseDto.class))),
+            content = @Content(schema = @Schema(implementation = UserPageResponseDto.class))),
+        @ApiResponse(responseCode = "500", description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<UserPageResponseDto> getActiveUsers(
+            @Parameter(description = "Page number (1-based). Default: 1", example = "1")
+            @RequestParam(value = "page", required = false) Integer page,
+            @Parameter(description = "Number of elements per page (1-100). Default: 10", example = "10")
+            @RequestParam(value = "size", required = false) Integer size) {
+        UserFilterDto filter = UserFilterDto.builder().active(true).build();
+        return ResponseEntity.ok(userService.findUsers(filter, page, size));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll users with keyset pagination", 
+               description = "Retrieve the users after the given cursor ordered by ID, with the same filters as the paged listing. " +
+                            "Pass the nextCursor of a response as 'after' to get the next page. No totals are computed, " +
+                            "so every page costs the same regardless of its depth.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users retrieved successfully",
+            content = @Content(schema = @Schema(implementation = UserPageResponseDto.class),
+                examples = {
+                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                        name = "Keyset Page",
+                        value = "{\n" +
+                                "  \"content\": [\n" +
+                                "    {\n" +
+                                "      \"id\": 42,\n" +
+                                "      \"username\": \"john\",\n" +
+                                "      \"isActive\": true,\n" +
+                                "      \"createdAt\": \"2025-01-03T10:00:00\",\n" +
+                                "      \"updatedAt\": \"2025-01-03T10:00:00\"\n" +
+                                "    }\n" +
+                                "  ],\n" +
+                                "  \"pageSize\": 1,\n" +
+                                "  \"hasNext\": true,\n" +
+                                "  \"hasPrevious\": false,\n" +
+                                "  \"nextCursor\": 42\n" +
+                                "}"
+                    )
+                })),
         @ApiResponse(responseCode = "500", description = "Internal server error",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
-    public ResponseEntity<List<UserResponseDto>> getActiveUsers() {
-        List<UserResponseDto> users = userService.findAllActiveUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<UserPageResponseDto> scrollUsers(
+            @Parameter(description = "nextCursor of the previous page; omit for the first page", example = "42")
+            @RequestParam(value = "after", required = false) Long after,
+            @Parameter(description = "Number of elements per page (1-100). Default: 10", example = "10")
+            @RequestParam(value = "size", required = false) Integer size,
+            @Parameter(description = "Only active (true) or inactive (false) users", example = "true")
+            @RequestParam(value = "active", required = false) Boolean active,
+            @Parameter(description = "Username prefix", example = "jo")
+            @RequestParam(value = "usernamePrefix", required = false) String usernamePrefix,
+            @Parameter(description = "First creation timestamp (inclusive, ISO format)", example = "2025-01-01T00:00:00")
+            @RequestParam(value = "createdFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Last creation timestamp (inclusive, ISO format)", example = "2025-12-31T23:59:59")
+            @RequestParam(value = "createdTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        UserFilterDto filter = UserFilterDto.builder()
+                .active(active)
+                .usernamePrefix(usernamePrefix)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+        return ResponseEntity.ok(userService.scrollUsers(filter, after, size));
     }
 
     @PutMapping("/{id}/password")
@@ -281,4 +366,59 @@ public class UserController {
         UserActionResponseDto response = userService.deleteUser(id);
         return ResponseEntity.ok(response);
     }
-} 
\ No newline at end of file
+
+    @PostMapping("/bulk/activate")
+    @Operation(summary = "Activate users in bulk", 
+               description = "Activate the users selected by IDs or by a filter (active, usernamePrefix, createdFrom, createdTo), " +
+                            "using set-based updates in chunks")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users activated successfully",
+            content = @Content(schema = @Schema(implementation = BulkUserActionResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Neither or both of IDs and filter were given",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BulkUserActionResponseDto> bulkActivateUsers(@Valid @RequestBody BulkUserActionRequestDto request) {
+        return ResponseEntity.ok(userBulkService.apply(UserBulkService.Action.ACTIVATE, request));
+    }
+
+    @PostMapping("/bulk/deactivate")
+    @Operation(summary = "Deactivate users in bulk", 
+               description = "Deactivate the users selected by IDs or by a filter (active, usernamePrefix, createdFrom, createdTo), " +
+                            "using set-based updates in chunks. Their tokens are revoked.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users deactivated successfully",
+            content = @Content(schema = @Schema(implementation = BulkUserActionResponseDto.class),
+                examples = {
+                    @io.swagger.v3.oas.annotations.media.ExampleObject(
+                        name = "Users Deactivated Successfully",
+                        value = "{\n" +
+                                "  \"message\": \"50000 users deactivated successfully\",\n" +
+                                "  \"action\": \"DEACTIVATED\",\n" +
+                                "  \"affectedUsers\": 50000,\n" +
+                                "  \"chunks\": 50,\n" +
+                                "  \"performedAt\": \"2025-01-03T13:31:23.537\",\n" +
+                                "  \"status\": \"SUCCESS\"\n" +
+                                "}"
+                    )
+                })),
+        @ApiResponse(responseCode = "400", description = "Neither or both of IDs and filter were given",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BulkUserActionResponseDto> bulkDeactivateUsers(@Valid @RequestBody BulkUserActionRequestDto request) {
+        return ResponseEntity.ok(userBulkService.apply(UserBulkService.Action.DEACTIVATE, request));
+    }
+
+    @PostMapping("/bulk/delete")
+    @Operation(summary = "Delete users in bulk", 
+               description = "Permanently delete the users selected by IDs or by a filter (active, usernamePrefix, createdFrom, createdTo), " +
+                            "using set-based deletes in chunks. Their tokens are revoked.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users deleted successfully",
+            content = @Content(schema = @Schema(implementation = BulkUserActionResponseDto.class))),
+        @ApiResponse(responseCode = "400", description = "Neither or both of IDs and filter were given",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<BulkUserActionResponseDto> bulkDeleteUsers(@Valid @RequestBody BulkUserActionRequestDto request) {
+        return ResponseEntity.ok(userBulkService.apply(UserBulkService.Action.DELETE, request));
+    }
+}
@@ -0,0 +1,40 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "API key creation response")
+public class ApiKeyCreateResponseDto {
+    
+    @Schema(description = "Success message", example = "API key 'nightly-batch' created successfully")
+    private String message;
+    
+    @Schema(description = "API key ID", example = "1")
+    private Long id;
+    
+    @Schema(description = "API key name", example = "nightly-batch")
+    private String name;
+    
+    @Schema(description = "The API key; it is not stored and cannot be retrieved again",
+            example = "sk_Xq3vT9aLr0mW2cYh8KpE5sJd1uFbN6gZ4oQiVxA7tC")
+    private String apiKey;
+    
+    @Schema(description = "Scopes granted to the key", example = "[\"customers:read\"]")
+    private List<String> scopes;
+    
+    @Schema(description = "When the key expires (null for no expiration)", example = "2026-01-03T13:31:23.537")
+    private LocalDateTime expiresAt;
+    
+    @Schema(description = "When the key was created", example = "2025-01-03T13:31:23.537")
+    private LocalDateTime createdAt;
+}
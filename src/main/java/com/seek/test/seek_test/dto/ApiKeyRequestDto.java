@@ -0,0 +1,56 @@
+package com.seek.test.seek_test.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class ApiKeyRequestDto {
+    
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name must be at most 100 characters")
+    private String name;
+    
+    @NotEmpty(message = "At least one scope is required")
+    private List<String> scopes;
+    
+    @Positive(message = "Expiration must be a positive number of days")
+    private Integer expiresInDays;
+    
+    // Default constructor
+    public ApiKeyRequestDto() {}
+    
+    // Constructor with parameters
+    public ApiKeyRequestDto(String name, List<String> scopes, Integer expiresInDays) {
+        this.name = name;
+        this.scopes = scopes;
+        this.expiresInDays = expiresInDays;
+    }
+    
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public List<String> getScopes() {
+        return scopes;
+    }
+    
+    public void setScopes(List<String> scopes) {
+        this.scopes = scopes;
+    }
+    
+    public Integer getExpiresInDays() {
+        return expiresInDays;
+    }
+    
+    public void setExpiresInDays(Integer expiresInDays) {
+        this.expiresInDays = expiresInDays;
+    }
+}
@@ -0,0 +1,42 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "API key response (the key itself is only returned on creation)")
+public class ApiKeyResponseDto {
+    
+    @Schema(description = "API key ID", example = "1")
+    private Long id;
+    
+    @Schema(description = "API key name", example = "nightly-batch")
+    private String name;
+    
+    @Schema(description = "First characters of the key", example = "sk_Xq3vT9a")
+    private String keyPrefix;
+    
+    @Schema(description = "Scopes granted to the key", example = "[\"customers:read\"]")
+    private List<String> scopes;
+    
+    @Schema(description = "Whether the key is active", example = "true")
+    private Boolean isActive;
+    
+    @Schema(description = "When the key expires (null for no expiration)", example = "2026-01-03T13:31:23.537")
+    private LocalDateTime expiresAt;
+    
+    @Schema(description = "When the key was created", example = "2025-01-03T13:31:23.537")
+    private LocalDateTime createdAt;
+    
+    @Schema(description = "When the key was last updated", example = "2025-01-03T13:31:23.537")
+    private LocalDateTime updatedAt;
+}
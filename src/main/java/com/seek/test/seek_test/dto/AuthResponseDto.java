@@ -4,6 +4,11 @@ public class AuthResponseDto {
     
     private String token;
     
+    private String refreshToken;
+    
+    // Access token lifetime in seconds
+    private Long expiresIn;
+    
     // Default constructor
     public AuthResponseDto() {}
     
@@ -12,6 +17,13 @@ public class AuthResponseDto {
         this.token = token;
     }
     
+    // Constructor with access and refresh tokens
+    public AuthResponseDto(String token, String refreshToken, Long expiresIn) {
+        this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+    
     
     // Getters and Setters
     public String getToken() {
@@ -21,4 +33,20 @@ public class AuthResponseDto {
     public void setToken(String token) {
         this.token = token;
     }
-} 
\ No newline at end of file
+    
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+    
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+    
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+    
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.seek.test.seek_test.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Selects the users of a bulk operation, either by explicit IDs or by a filter
+ */
+public class BulkUserActionRequestDto {
+    
+    @Size(max = 100000, message = "At most 100000 user IDs per request")
+    private List<Long> ids;
+    
+    private Boolean active;
+    
+    private String usernamePrefix;
+    
+    private LocalDateTime createdFrom;
+    
+    private LocalDateTime createdTo;
+    
+    // Default constructor
+    public BulkUserActionRequestDto() {}
+    
+    // Constructor with IDs
+    public BulkUserActionRequestDto(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    /**
+     * Whether the users are selected by a filter instead of by IDs
+     */
+    public boolean hasFilter() {
+        return active != null || (usernamePrefix != null && !usernamePrefix.isEmpty())
+                || createdFrom != null || createdTo != null;
+    }
+    
+    /**
+     * The filter part of the request
+     */
+    public UserFilterDto toFilter() {
+        return UserFilterDto.builder()
+                .active(active)
+                .usernamePrefix(usernamePrefix)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .build();
+    }
+    
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    public Boolean getActive() {
+        return active;
+    }
+    
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+    
+    public String getUsernamePrefix() {
+        return usernamePrefix;
+    }
+    
+    public void setUsernamePrefix(String usernamePrefix) {
+        this.usernamePrefix = usernamePrefix;
+    }
+    
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+    
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+    
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+    
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+}
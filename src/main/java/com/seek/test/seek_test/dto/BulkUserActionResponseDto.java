@@ -0,0 +1,35 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Bulk user action response")
+public class BulkUserActionResponseDto {
+    
+    @Schema(description = "Success message", example = "50000 users deactivated successfully")
+    private String message;
+    
+    @Schema(description = "Action performed", example = "DEACTIVATED")
+    private String action;
+    
+    @Schema(description = "Number of users whose state changed", example = "50000")
+    private long affectedUsers;
+    
+    @Schema(description = "Number of chunks (transactions) used", example = "50")
+    private int chunks;
+    
+    @Schema(description = "Timestamp when the action was performed", example = "2025-01-03T13:31:23.537")
+    private LocalDateTime performedAt;
+    
+    @Schema(description = "Operation status", example = "SUCCESS")
+    private String status;
+}
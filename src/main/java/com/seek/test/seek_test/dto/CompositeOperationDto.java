@@ -0,0 +1,60 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One customer operation of a composite request")
+public class CompositeOperationDto {
+
+    @NotNull(message = "Operation type is required")
+    @Schema(description = "Operation to run", example = "CREATE")
+    private Type type;
+
+    @Schema(description = "Customer ID, for GET, UPDATE and DELETE", example = "1")
+    private Long id;
+
+    @Schema(description = "Customer IDs, for BATCH_GET", example = "[3, 1]")
+    private List<Long> ids;
+
+    @Schema(description = "Page number (1-based), for LIST", example = "1")
+    private Integer page;
+
+    @Schema(description = "Page size, for LIST", example = "10")
+    private Integer size;
+
+    @Schema(description = "Customer data, for CREATE and UPDATE")
+    private CustomerRequestDto customer;
+
+    /**
+     * Customer operations; reads don't modify data and may run in parallel with each other
+     */
+    public enum Type {
+        CREATE(false),
+        UPDATE(false),
+        DELETE(false),
+        GET(true),
+        BATCH_GET(true),
+        LIST(true),
+        METRICS(true);
+
+        private final boolean read;
+
+        Type(boolean read) {
+            this.read = read;
+        }
+
+        public boolean isRead() {
+            return read;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Ordered list of customer operations run in a single request")
+public class CompositeRequestDto {
+
+    @Schema(description = "Run every operation in one transaction: the first failure rolls all of them back", example = "false")
+    private boolean transactional;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Schema(description = "Operations, run in this order")
+    private List<@Valid CompositeOperationDto> operations;
+}
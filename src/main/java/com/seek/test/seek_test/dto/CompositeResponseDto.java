@@ -0,0 +1,26 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Results of a composite request")
+public class CompositeResponseDto {
+
+    @Schema(description = "Whether the operations ran in one transaction", example = "true")
+    private boolean transactional;
+
+    @Schema(description = "Whether a transactional request was rolled back because an operation failed", example = "false")
+    private boolean rolledBack;
+
+    @Schema(description = "One result per operation, in request order")
+    private List<CompositeResultDto> results;
+}
@@ -0,0 +1,32 @@
+package com.seek.test.seek_test.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of one operation of a composite request")
+public class CompositeResultDto {
+
+    @Schema(description = "Position of the operation in the request", example = "0")
+    private int index;
+
+    @Schema(description = "Operation type", example = "CREATE")
+    private CompositeOperationDto.Type type;
+
+    @Schema(description = "HTTP status the operation would have had on its own endpoint; 424 when it was not run", example = "201")
+    private int status;
+
+    @Schema(description = "Response body of the operation, when it succeeded")
+    private Object body;
+
+    @Schema(description = "Error message, when it failed or was not run")
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.seek.test.seek_test.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Result of one requested ID")
+public class CustomerBatchItemDto {
+
+    @Schema(description = "Requested customer ID", example = "3")
+    private Long id;
+
+    @Schema(description = "Whether an active customer exists with this ID", example = "true")
+    private boolean found;
+
+    @Schema(description = "The customer, only when found")
+    private CustomerResponseDto customer;
+}
@@ -0,0 +1,22 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Customer IDs to look up in one call")
+public class CustomerBatchRequestDto {
+
+    @NotEmpty(message = "At least one customer ID is required")
+    @Schema(description = "Customer IDs; the response keeps this order", example = "[3, 1, 40]")
+    private List<Long> ids;
+}
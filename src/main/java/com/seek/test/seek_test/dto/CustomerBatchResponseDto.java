@@ -0,0 +1,26 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch customer lookup response")
+public class CustomerBatchResponseDto {
+
+    @Schema(description = "One result per requested ID, in request order")
+    private List<CustomerBatchItemDto> results;
+
+    @Schema(description = "Number of requested IDs with an active customer", example = "2")
+    private int found;
+
+    @Schema(description = "Number of requested IDs without an active customer", example = "1")
+    private int notFound;
+}
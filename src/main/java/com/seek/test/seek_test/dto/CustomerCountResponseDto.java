@@ -0,0 +1,29 @@
+package com.seek.test.seek_test.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Filtered customer count response")
+public class CustomerCountResponseDto {
+
+    @Schema(description = "Number of active customers matching the filter", example = "1250")
+    private long count;
+
+    @Schema(description = "IDs of the matching customers, only when requested", example = "[1, 5, 9]")
+    private List<Long> customerIds;
+
+    @Schema(description = "Whether the list of IDs was cut at the configured limit", example = "false")
+    private boolean idsTruncated;
+
+    @Schema(description = "Where the answer was computed: BITMAP_INDEX or DATABASE", example = "BITMAP_INDEX")
+    private String source;
+}
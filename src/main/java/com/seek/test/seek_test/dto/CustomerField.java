@@ -0,0 +1,76 @@
+package com.seek.test.seek_test.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of {@link CustomerResponseDto} that a client can ask for with the {@code fields}
+ * parameter, with the entity attributes each one is read from. Derived fields list the
+ * attributes they are computed from.
+ */
+public enum CustomerField {
+
+    ID("id", "id"),
+    FIRST_NAME("firstName", "firstName"),
+    LAST_NAME("lastName", "lastName"),
+    FULL_NAME("fullName", "firstName", "lastName"),
+    AGE("age", "age"),
+    BIRTH_DATE("birthDate", "birthDate"),
+    ESTIMATED_LIFE_EXPECTANCY("estimatedLifeExpectancy", "age"),
+    CREATED_AT("createdAt", "createdAt"),
+    UPDATED_AT("updatedAt", "updatedAt");
+
+    private final String jsonName;
+    private final List<String> attributes;
+
+    CustomerField(String jsonName, String... attributes) {
+        this.jsonName = jsonName;
+        this.attributes = List.of(attributes);
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a comma-separated list of JSON field names, e.g. "id,fullName"
+     * @return the requested fields, or null when the parameter is absent or blank (all fields)
+     * @throws IllegalArgumentException if a name is not a customer field
+     */
+    public static Set<CustomerField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<CustomerField> parsed = EnumSet.noneOf(CustomerField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown customer field: " + trimmed
+                            + ". Allowed fields: " + Arrays.stream(values())
+                                    .map(CustomerField::getJsonName)
+                                    .collect(Collectors.joining(", ")))));
+        }
+        return parsed.isEmpty() ? null : Collections.unmodifiableSet(parsed);
+    }
+
+    /**
+     * Entity attributes that have to be loaded to build the given fields
+     */
+    public static Set<String> attributesOf(Set<CustomerField> fields) {
+        Set<String> attributes = new LinkedHashSet<>();
+        for (CustomerField field : fields) {
+            attributes.addAll(field.attributes);
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,28 @@
+package com.seek.test.seek_test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerFilterDto {
+
+    private Integer minAge;
+    private Integer maxAge;
+    private List<Integer> birthMonths;
+    private Integer birthYearFrom;
+    private Integer birthYearTo;
+    private LocalDate birthDateFrom;
+    private LocalDate birthDateTo;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private String lastNamePrefix;
+}
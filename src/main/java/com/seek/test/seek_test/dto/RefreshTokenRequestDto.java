@@ -0,0 +1,26 @@
+package com.seek.test.seek_test.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class RefreshTokenRequestDto {
+    
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+    
+    // Default constructor
+    public RefreshTokenRequestDto() {}
+    
+    // Constructor with refresh token
+    public RefreshTokenRequestDto(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+    
+    // Getters and Setters
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+    
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,20 @@
+package com.seek.test.seek_test.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserFilterDto {
+
+    private Boolean active;
+    private String usernamePrefix;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+}
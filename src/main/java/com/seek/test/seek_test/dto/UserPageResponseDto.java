@@ -0,0 +1,47 @@
+package com.seek.test.seek_test.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Paginated user response. Page listings carry the page number and totals; " +
+        "keyset listings carry the cursor of the next page instead")
+public class UserPageResponseDto {
+    
+    @Schema(description = "List of users in the current page", example = "[]")
+    private List<UserResponseDto> content;
+    
+    @Schema(description = "Current page number (1-based, page listings only)", example = "1")
+    private Integer pageNumber;
+    
+    @Schema(description = "Number of elements per page", example = "10")
+    private int pageSize;
+    
+    @Schema(description = "Total number of matching users (page listings only)", example = "25")
+    private Long totalElements;
+    
+    @Schema(description = "Total number of pages (page listings only)", example = "3")
+    private Integer totalPages;
+    
+    @Schema(description = "Whether there is a next page", example = "true")
+    @JsonProperty("hasNext")
+    private boolean hasNext;
+    
+    @Schema(description = "Whether there is a previous page", example = "false")
+    @JsonProperty("hasPrevious")
+    private boolean hasPrevious;
+    
+    @Schema(description = "Value of the 'after' parameter for the next page (keyset listings only)", example = "42")
+    private Long nextCursor;
+}
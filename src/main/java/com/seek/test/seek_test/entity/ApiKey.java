@@ -0,0 +1,133 @@
+package com.seek.test.seek_test.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "api_keys")
+@EntityListeners(AuditingEntityListener.class)
+public class ApiKey {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "name", unique = true, nullable = false, length = 100)
+    private String name;
+    
+    // First characters of the key, shown in listings so a key can be identified without storing it
+    @Column(name = "key_prefix", nullable = false, length = 12)
+    private String keyPrefix;
+    
+    // SHA-256 (hex) of the key handed to the client
+    @Column(name = "key_hash", unique = true, nullable = false, length = 64)
+    private String keyHash;
+    
+    // Comma-separated scopes, e.g. "customers:read,customers:write"
+    @Column(name = "scopes", nullable = false, length = 500)
+    private String scopes;
+    
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+    
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+    
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Default constructor
+    public ApiKey() {}
+    
+    // Constructor with parameters
+    public ApiKey(String name, String keyPrefix, String keyHash, String scopes, LocalDateTime expiresAt) {
+        this.name = name;
+        this.keyPrefix = keyPrefix;
+        this.keyHash = keyHash;
+        this.scopes = scopes;
+        this.expiresAt = expiresAt;
+        this.isActive = true;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+    
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+    
+    public String getKeyHash() {
+        return keyHash;
+    }
+    
+    public void setKeyHash(String keyHash) {
+        this.keyHash = keyHash;
+    }
+    
+    public String getScopes() {
+        return scopes;
+    }
+    
+    public void setScopes(String scopes) {
+        this.scopes = scopes;
+    }
+    
+    public Boolean getIsActive() {
+        return isActive;
+    }
+    
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -24,6 +24,9 @@ import java.time.Period;
 @EntityListeners(AuditingEntityListener.class)
 public class Customer {
 
+    // Global average life expectancy (approximately 73 years)
+    public static final int AVERAGE_LIFE_EXPECTANCY = 73;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -106,15 +109,25 @@ public class Customer {
      * Using global average life expectancy data
      */
     public LocalDate calculateEstimatedLifeExpectancy() {
+        return calculateEstimatedLifeExpectancy(LocalDate.now());
+    }
+
+    /**
+     * Calculates estimated life expectancy based on current age, counting from the given day
+     */
+    public LocalDate calculateEstimatedLifeExpectancy(LocalDate today) {
         if (age == null) {
             return null;
         }
         
-        // Global average life expectancy (approximately 73 years)
-        int averageLifeExpectancy = 73;
-        int remainingYears = Math.max(0, averageLifeExpectancy - age);
-        
-        return LocalDate.now().plusYears(remainingYears);
+        return today.plusYears(remainingLifeYears(age));
+    }
+
+    /**
+     * Years left until the global average life expectancy, never negative
+     */
+    public static int remainingLifeYears(int age) {
+        return Math.max(0, AVERAGE_LIFE_EXPECTANCY - age);
     }
 
     /**
@@ -31,6 +31,9 @@ public class User {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
     
+    @Column(name = "credential_epoch", nullable = false)
+    private Long credentialEpoch = 0L;
+    
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -82,6 +85,14 @@ public class User {
         this.isActive = isActive;
     }
     
+    public Long getCredentialEpoch() {
+        return credentialEpoch;
+    }
+    
+    public void setCredentialEpoch(Long credentialEpoch) {
+        this.credentialEpoch = credentialEpoch;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
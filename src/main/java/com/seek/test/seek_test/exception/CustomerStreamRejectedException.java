@@ -0,0 +1,18 @@
+package com.seek.test.seek_test.exception;
+
+/**
+ * Exception thrown when a customer stream cannot start because the maximum of concurrent streams is reached
+ */
+public class CustomerStreamRejectedException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public CustomerStreamRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
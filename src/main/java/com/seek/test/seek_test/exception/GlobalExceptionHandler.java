@@ -2,6 +2,7 @@ package com.seek.test.seek_test.exception;
 
 import com.seek.test.seek_test.service.MonitoringService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -57,6 +58,58 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
     }
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRefreshTokenException(InvalidRefreshTokenException ex, HttpServletRequest request) {
+        log.error("Refresh failed: {}", ex.getMessage());
+        monitoringService.recordError("invalid_refresh_token");
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.UNAUTHORIZED.value())
+                .error("Unauthorized")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
+    @ExceptionHandler(LoginRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleLoginRejectedException(LoginRejectedException ex, HttpServletRequest request) {
+        log.warn("Login rejected: {}", ex.getMessage());
+        monitoringService.recordError("login_rejected");
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(CustomerStreamRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleCustomerStreamRejectedException(CustomerStreamRejectedException ex, HttpServletRequest request) {
+        log.warn("Customer stream rejected: {}", ex.getMessage());
+        monitoringService.recordError("customer_stream_rejected");
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(AgeBirthDateMismatchException.class)
     public ResponseEntity<ErrorResponse> handleAgeBirthDateMismatchException(AgeBirthDateMismatchException ex, HttpServletRequest request) {
         log.error("Age and birth date mismatch: {}", ex.getMessage());
@@ -0,0 +1,11 @@
+package com.seek.test.seek_test.exception;
+
+/**
+ * Exception thrown when a refresh token is unknown, expired, revoked or reused
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+    
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
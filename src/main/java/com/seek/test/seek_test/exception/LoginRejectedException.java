@@ -0,0 +1,23 @@
+package com.seek.test.seek_test.exception;
+
+/**
+ * Exception thrown when a login cannot be admitted because the login executor is saturated
+ */
+public class LoginRejectedException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public LoginRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public LoginRejectedException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
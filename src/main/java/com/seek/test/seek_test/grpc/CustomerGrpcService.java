@@ -0,0 +1,304 @@
+package com.seek.test.seek_test.grpc;
+
+import com.seek.test.seek_test.dto.CustomerBatchItemDto;
+import com.seek.test.seek_test.dto.CustomerBatchResponseDto;
+import com.seek.test.seek_test.dto.CustomerFilterDto;
+import com.seek.test.seek_test.dto.CustomerMetricsDto;
+import com.seek.test.seek_test.dto.CustomerRequestDto;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
+import com.seek.test.seek_test.exception.AgeBirthDateMismatchException;
+import com.seek.test.seek_test.exception.CustomerNotFoundException;
+import com.seek.test.seek_test.service.CustomerService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC transport for the internal customer reads and writes. Every call goes through
+ * {@link CustomerService}, so validation, business rules and metrics are the same as
+ * in the REST API; this class only converts messages and maps exceptions to status codes.
+ *
+ * Listings are streamed from the database cursor on a small dedicated pool and follow
+ * the client's flow control: the cursor stops while the call is not ready for more messages.
+ */
+@GrpcService
+@Slf4j
+public class CustomerGrpcService extends CustomerServiceGrpc.CustomerServiceImplBase {
+
+    private final CustomerService customerService;
+    private final Validator validator;
+    private final ThreadPoolExecutor streamExecutor;
+
+    public CustomerGrpcService(CustomerService customerService, Validator validator,
+                               @Value("${grpc.customer-stream.threads:8}") int streamThreads) {
+        this.customerService = customerService;
+        this.validator = validator;
+        this.streamExecutor = new ThreadPoolExecutor(
+                streamThreads, streamThreads,
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new StreamThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.streamExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void getCustomer(GetCustomerRequest request, StreamObserver<Customer> responseObserver) {
+        try {
+            responseObserver.onNext(toMessage(customerService.getCustomerById(request.getId())));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+        }
+    }
+
+    @Override
+    public void batchGetCustomers(BatchGetCustomersRequest request,
+                                  StreamObserver<BatchGetCustomersResponse> responseObserver) {
+        try {
+            CustomerBatchResponseDto batch = customerService.getCustomersBatch(request.getIdsList());
+
+            BatchGetCustomersResponse.Builder response = BatchGetCustomersResponse.newBuilder();
+            for (CustomerBatchItemDto item : batch.getResults()) {
+                if (item.isFound()) {
+                    response.addCustomers(toMessage(item.getCustomer()));
+                } else {
+                    response.addNotFoundIds(item.getId());
+                }
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+        }
+    }
+
+    @Override
+    public void listCustomers(CustomerFilter request, StreamObserver<Customer> responseObserver) {
+        ServerCallStreamObserver<Customer> observer = (ServerCallStreamObserver<Customer>) responseObserver;
+        CustomerFilterDto filter;
+        try {
+            filter = toFilter(request);
+        } catch (RuntimeException e) {
+            observer.onError(toStatusException(e));
+            return;
+        }
+
+        FlowControl flowControl = new FlowControl(observer);
+        observer.setOnReadyHandler(flowControl::signal);
+        observer.setOnCancelHandler(flowControl::signal);
+
+        try {
+            streamExecutor.execute(() -> {
+                try {
+                    customerService.streamCustomers(filter, customer -> {
+                        flowControl.awaitReady();
+                        observer.onNext(toMessage(customer));
+                    });
+                    observer.onCompleted();
+                } catch (RuntimeException e) {
+                    if (observer.isCancelled()) {
+                        log.info("Customer stream cancelled by the client");
+                    } else {
+                        observer.onError(toStatusException(e));
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            observer.onError(Status.RESOURCE_EXHAUSTED
+                    .withDescription("Too many concurrent customer streams, please retry later")
+                    .asRuntimeException());
+        }
+    }
+
+    @Override
+    public void createCustomer(CreateCustomerRequest request, StreamObserver<Customer> responseObserver) {
+        try {
+            CustomerRequestDto requestDto = CustomerRequestDto.builder()
+                    .firstName(request.getFirstName())
+                    .lastName(request.getLastName())
+                    .age(request.getAge())
+                    .birthDate(request.getBirthDate().isEmpty() ? null : LocalDate.parse(request.getBirthDate()))
+                    .build();
+
+            // Same bean validation as @Valid on the REST controller
+            Set<ConstraintViolation<CustomerRequestDto>> violations = validator.validate(requestDto);
+            if (!violations.isEmpty()) {
+                String details = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                throw Status.INVALID_ARGUMENT.withDescription("Validation failed: " + details).asRuntimeException();
+            }
+
+            responseObserver.onNext(toMessage(customerService.createCustomer(requestDto)));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+        }
+    }
+
+    @Override
+    public void getCustomerMetrics(CustomerFilter request, StreamObserver<CustomerMetrics> responseObserver) {
+        try {
+            CustomerMetricsDto metrics = isEmpty(request)
+                    ? customerService.getCustomerMetrics()
+                    : customerService.getCustomerMetrics(toFilter(request));
+
+            CustomerMetrics.Builder response = CustomerMetrics.newBuilder()
+                    .setTotalCustomers(metrics.getTotalCustomers())
+                    .setAverageAge(metrics.getAverageAge())
+                    .setStandardDeviation(metrics.getStandardDeviation())
+                    .setMedianAge(metrics.getMedianAge());
+            if (metrics.getMinAge() != null) {
+                response.setMinAge(metrics.getMinAge());
+            }
+            if (metrics.getMaxAge() != null) {
+                response.setMaxAge(metrics.getMaxAge());
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatusException(e));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+    }
+
+    /**
+     * Maps exceptions the same way GlobalExceptionHandler does for HTTP
+     */
+    private StatusRuntimeException toStatusException(RuntimeException e) {
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException;
+        }
+        if (e instanceof CustomerNotFoundException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof AgeBirthDateMismatchException) {
+            return Status.FAILED_PRECONDITION.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof IllegalArgumentException || e instanceof DateTimeException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+        }
+        log.error("Unexpected error in gRPC customer call", e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred").asRuntimeException();
+    }
+
+    private static boolean isEmpty(CustomerFilter filter) {
+        return !filter.hasMinAge() && !filter.hasMaxAge() && !filter.hasBirthDateFrom() && !filter.hasBirthDateTo()
+                && !filter.hasCreatedFrom() && !filter.hasCreatedTo()
+                && (!filter.hasLastNamePrefix() || filter.getLastNamePrefix().isEmpty());
+    }
+
+    private static CustomerFilterDto toFilter(CustomerFilter filter) {
+        return CustomerFilterDto.builder()
+                .minAge(filter.hasMinAge() ? filter.getMinAge() : null)
+                .maxAge(filter.hasMaxAge() ? filter.getMaxAge() : null)
+                .birthDateFrom(filter.hasBirthDateFrom() ? LocalDate.parse(filter.getBirthDateFrom()) : null)
+                .birthDateTo(filter.hasBirthDateTo() ? LocalDate.parse(filter.getBirthDateTo()) : null)
+                .createdFrom(filter.hasCreatedFrom() ? LocalDateTime.parse(filter.getCreatedFrom()) : null)
+                .createdTo(filter.hasCreatedTo() ? LocalDateTime.parse(filter.getCreatedTo()) : null)
+                .lastNamePrefix(filter.hasLastNamePrefix() ? filter.getLastNamePrefix() : null)
+                .build();
+    }
+
+    static Customer toMessage(CustomerResponseDto customer) {
+        Customer.Builder message = Customer.newBuilder()
+                .setId(customer.getId())
+                .setFirstName(customer.getFirstName())
+                .setLastName(customer.getLastName())
+                .setFullName(customer.getFullName())
+                .setAge(customer.getAge());
+        if (customer.getBirthDate() != null) {
+            message.setBirthDate(customer.getBirthDate().toString());
+        }
+        if (customer.getEstimatedLifeExpectancy() != null) {
+            message.setEstimatedLifeExpectancy(customer.getEstimatedLifeExpectancy().toString());
+        }
+        if (customer.getCreatedAt() != null) {
+            message.setCreatedAt(customer.getCreatedAt().toString());
+        }
+        if (customer.getUpdatedAt() != null) {
+            message.setUpdatedAt(customer.getUpdatedAt().toString());
+        }
+        return message.build();
+    }
+
+    /**
+     * Parks the streaming thread while the call cannot take more messages; onReady and
+     * onCancel wake it up
+     */
+    private static final class FlowControl {
+
+        private final ServerCallStreamObserver<?> observer;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+
+        FlowControl(ServerCallStreamObserver<?> observer) {
+            this.observer = observer;
+        }
+
+        void signal() {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void awaitReady() {
+            lock.lock();
+            try {
+                while (!observer.isReady() && !observer.isCancelled()) {
+                    changed.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw Status.CANCELLED.withDescription("Customer stream interrupted").asRuntimeException();
+            } finally {
+                lock.unlock();
+            }
+            if (observer.isCancelled()) {
+                throw Status.CANCELLED.withDescription("Customer stream cancelled by the client").asRuntimeException();
+            }
+        }
+    }
+
+    private static final class StreamThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "grpc-customer-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
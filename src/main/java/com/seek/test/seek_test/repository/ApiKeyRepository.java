@@ -0,0 +1,33 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.entity.ApiKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
+    
+    /**
+     * Find all active API keys
+     * @return list of active API keys
+     */
+    List<ApiKey> findByIsActiveTrue();
+    
+    /**
+     * Check if an API key name exists
+     * @param name the name to check
+     * @return true if the name exists, false otherwise
+     */
+    boolean existsByName(String name);
+    
+    /**
+     * Latest update timestamp of the table, used to detect changes made by other instances
+     * @return the latest update timestamp, or null when the table is empty
+     */
+    @Query("SELECT MAX(k.updatedAt) FROM ApiKey k")
+    LocalDateTime findLastUpdatedAt();
+}
@@ -0,0 +1,33 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.entity.Customer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+
+/**
+ * Lecturas frecuentes de clientes activos que CustomerService hace por ID y por página.
+ * La implementación por defecto es {@link CustomerRepository} (JPA); con
+ * {@code customer.read-path=jdbc} se usa {@link JdbcCustomerReadRepository}, que lee con JDBC
+ * sin pasar por el contexto de persistencia de Hibernate.
+ *
+ * Las entidades devueltas son de solo lectura: no deben modificarse para guardarlas.
+ */
+public interface CustomerReadRepository {
+
+    /**
+     * Busca todos los clientes que no han sido eliminados con paginación
+     */
+    Page<Customer> findByIsDeletedFalse(Pageable pageable);
+
+    /**
+     * Busca un cliente por ID que no haya sido eliminado
+     */
+    Optional<Customer> findByIdAndIsDeletedFalse(Long id);
+
+    /**
+     * Cuenta el total de clientes activos
+     */
+    long countByIsDeletedFalse();
+}
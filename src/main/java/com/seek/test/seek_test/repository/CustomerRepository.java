@@ -5,13 +5,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerRepositoryCustom, CustomerReadRepository {
 
     /**
      * Busca todos los clientes que no han sido eliminados
@@ -28,6 +31,15 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
      */
     Optional<Customer> findByIdAndIsDeletedFalse(Long id);
 
+    /**
+     * Busca los clientes no eliminados cuyos IDs están en la lista, en una sola consulta
+     */
+    List<Customer> findByIdInAndIsDeletedFalse(Collection<Long> ids);
+
+    /**
+     * Busca los clientes modificados desde una fecha (incluye los eliminados lógicamente)
+     */
+    List<Customer> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
 
 
     /**
@@ -67,5 +79,33 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
            "ORDER BY c.age ASC")
     List<Integer> getAgesOrdered();
 
+    /**
+     * Cuenta los clientes activos por rango de edad, meses y rango de años de nacimiento
+     */
+    @Query("SELECT COUNT(c) FROM Customer c WHERE c.isDeleted = false " +
+           "AND c.age BETWEEN :minAge AND :maxAge " +
+           "AND MONTH(c.birthDate) IN :birthMonths " +
+           "AND YEAR(c.birthDate) BETWEEN :birthYearFrom AND :birthYearTo")
+    long countFiltered(@Param("minAge") int minAge,
+                       @Param("maxAge") int maxAge,
+                       @Param("birthMonths") Collection<Integer> birthMonths,
+                       @Param("birthYearFrom") int birthYearFrom,
+                       @Param("birthYearTo") int birthYearTo);
+
+    /**
+     * Obtiene los IDs de los clientes activos que cumplen el mismo filtro que countFiltered
+     */
+    @Query("SELECT c.id FROM Customer c WHERE c.isDeleted = false " +
+           "AND c.age BETWEEN :minAge AND :maxAge " +
+           "AND MONTH(c.birthDate) IN :birthMonths " +
+           "AND YEAR(c.birthDate) BETWEEN :birthYearFrom AND :birthYearTo " +
+           "ORDER BY c.id ASC")
+    List<Long> findIdsFiltered(@Param("minAge") int minAge,
+                               @Param("maxAge") int maxAge,
+                               @Param("birthMonths") Collection<Integer> birthMonths,
+                               @Param("birthYearFrom") int birthYearFrom,
+                               @Param("birthYearTo") int birthYearTo,
+                               Pageable pageable);
+
 
 } 
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.dto.CustomerFilterDto;
+import com.seek.test.seek_test.entity.Customer;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+public interface CustomerRepositoryCustom {
+
+    /**
+     * Cuenta los clientes activos que cumplen el filtro agrupados por edad, en una sola consulta.
+     * El resultado es un histograma indexado por edad.
+     */
+    long[] getAgeHistogram(CustomerFilterDto filter);
+
+    /**
+     * Recorre en orden de ID los clientes activos que cumplen el filtro, leyendo de un cursor
+     * de {@code fetchSize} filas. Cada entidad se desacopla después de procesarla, así que
+     * la memoria usada no depende del tamaño del resultado.
+     *
+     * @param filter filtros opcionales
+     * @param fetchSize filas que se piden a la base de datos en cada ida y vuelta
+     * @param action acción aplicada a cada cliente; mientras no retorna no se leen más filas
+     * @return número de clientes procesados
+     */
+    long forEachActive(CustomerFilterDto filter, int fetchSize, Consumer<Customer> action);
+
+    /**
+     * Página de clientes activos leyendo solo las columnas indicadas. Cada elemento de la tupla
+     * lleva como alias el nombre del atributo, así que se lee con {@code tuple.get("firstName", String.class)}.
+     *
+     * @param attributes atributos de la entidad a seleccionar; no puede estar vacío
+     * @param pageable página y orden, con la misma semántica que {@code findByIsDeletedFalse(Pageable)}
+     */
+    List<Tuple> findActiveAttributes(Set<String> attributes, Pageable pageable);
+
+    /**
+     * Cliente activo con el ID indicado, leyendo solo las columnas indicadas
+     */
+    Optional<Tuple> findActiveAttributesById(Set<String> attributes, Long id);
+}
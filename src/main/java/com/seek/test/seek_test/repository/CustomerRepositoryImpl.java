@@ -0,0 +1,155 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.dto.CustomerFilterDto;
+import com.seek.test.seek_test.entity.Customer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de las consultas dinámicas de clientes. Solo se agregan los predicados
+ * presentes en el filtro, como rangos o prefijos, para que MySQL pueda usar los índices existentes.
+ */
+public class CustomerRepositoryImpl implements CustomerRepositoryCustom {
+
+    static final int HISTOGRAM_SIZE = 256;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long[] getAgeHistogram(CustomerFilterDto filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Customer> customer = query.from(Customer.class);
+
+        query.multiselect(customer.get("age"), cb.count(customer))
+                .where(toPredicates(filter, cb, customer).toArray(new Predicate[0]))
+                .groupBy(customer.get("age"));
+
+        long[] histogram = new long[HISTOGRAM_SIZE];
+        for (Object[] row : entityManager.createQuery(query).getResultList()) {
+            histogram[(Integer) row[0]] += (Long) row[1];
+        }
+        return histogram;
+    }
+
+    @Override
+    public long forEachActive(CustomerFilterDto filter, int fetchSize, Consumer<Customer> action) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Customer> query = cb.createQuery(Customer.class);
+        Root<Customer> customer = query.from(Customer.class);
+
+        query.select(customer)
+                .where(toPredicates(filter, cb, customer).toArray(new Predicate[0]))
+                .orderBy(cb.asc(customer.get("id")));
+
+        // Con MySQL el fetch size solo abre un cursor en el servidor si la URL lleva useCursorFetch=true
+        long count = 0;
+        try (Stream<Customer> customers = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            for (Customer next : (Iterable<Customer>) customers::iterator) {
+                action.accept(next);
+                entityManager.detach(next);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public List<Tuple> findActiveAttributes(Set<String> attributes, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Customer> customer = query.from(Customer.class);
+
+        query.multiselect(toSelections(attributes, customer))
+                .where(cb.isFalse(customer.get("isDeleted")))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), customer, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public Optional<Tuple> findActiveAttributesById(Set<String> attributes, Long id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Customer> customer = query.from(Customer.class);
+
+        query.multiselect(toSelections(attributes, customer))
+                .where(cb.equal(customer.get("id"), id), cb.isFalse(customer.get("isDeleted")));
+
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    private static List<Selection<?>> toSelections(Set<String> attributes, Root<Customer> customer) {
+        if (attributes.isEmpty()) {
+            throw new IllegalArgumentException("At least one attribute is required");
+        }
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            selections.add(customer.get(attribute).alias(attribute));
+        }
+        return selections;
+    }
+
+    private List<Predicate> toPredicates(CustomerFilterDto filter, CriteriaBuilder cb, Root<Customer> customer) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isFalse(customer.get("isDeleted")));
+
+        if (filter.getMinAge() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(customer.get("age"), filter.getMinAge()));
+        }
+        if (filter.getMaxAge() != null) {
+            predicates.add(cb.lessThanOrEqualTo(customer.get("age"), filter.getMaxAge()));
+        }
+        if (filter.getBirthDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(customer.get("birthDate"), filter.getBirthDateFrom()));
+        }
+        if (filter.getBirthDateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(customer.get("birthDate"), filter.getBirthDateTo()));
+        }
+        // Rango de años como rango de fechas para no aplicar funciones sobre la columna indexada
+        if (filter.getBirthYearFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(customer.get("birthDate"), LocalDate.of(filter.getBirthYearFrom(), 1, 1)));
+        }
+        if (filter.getBirthYearTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(customer.get("birthDate"), LocalDate.of(filter.getBirthYearTo(), 12, 31)));
+        }
+        if (filter.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(customer.get("createdAt"), filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(customer.get("createdAt"), filter.getCreatedTo()));
+        }
+        if (filter.getLastNamePrefix() != null && !filter.getLastNamePrefix().isEmpty()) {
+            predicates.add(cb.like(customer.get("lastName"), escapeLike(filter.getLastNamePrefix()) + "%", '\\'));
+        }
+        return predicates;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
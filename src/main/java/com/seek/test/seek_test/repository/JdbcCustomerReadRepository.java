@@ -0,0 +1,147 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.entity.Customer;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Lecturas de clientes activos con JDBC plano. Las filas se mapean a mano a entidades
+ * desacopladas, sin contexto de persistencia, dirty checking ni proxies de Hibernate.
+ *
+ * Las sentencias son siempre las mismas (el orden solo admite columnas conocidas), así que el
+ * driver puede reutilizarlas; con MySQL hace falta {@code cachePrepStmts=true} en la URL.
+ * Participa en la transacción de Spring en curso, igual que los repositorios JPA; antes de leer
+ * se vuelcan los cambios pendientes del contexto de persistencia, para que una lectura después
+ * de una escritura JPA en la misma transacción vea la fila modificada o borrada.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "customer.read-path", havingValue = "jdbc")
+public class JdbcCustomerReadRepository implements CustomerReadRepository {
+
+    private static final String SELECT_ACTIVE = "SELECT id, first_name, last_name, age, birth_date, is_deleted, "
+            + "created_at, updated_at FROM customers WHERE is_deleted = FALSE";
+
+    private static final String FIND_BY_ID = SELECT_ACTIVE + " AND id = :id";
+
+    private static final String COUNT_ACTIVE = "SELECT COUNT(*) FROM customers WHERE is_deleted = FALSE";
+
+    // Atributos de la entidad que se pueden usar para ordenar, con su columna
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "firstName", "first_name",
+            "lastName", "last_name",
+            "age", "age",
+            "birthDate", "birth_date",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+
+    static final RowMapper<Customer> CUSTOMER_ROW_MAPPER = (rs, rowNum) -> {
+        Customer customer = new Customer();
+        customer.setId(rs.getLong(1));
+        customer.setFirstName(rs.getString(2));
+        customer.setLastName(rs.getString(3));
+        customer.setAge(rs.getInt(4));
+        customer.setBirthDate(rs.getObject(5, LocalDate.class));
+        customer.setIsDeleted(rs.getBoolean(6));
+        customer.setCreatedAt(rs.getObject(7, LocalDateTime.class));
+        customer.setUpdatedAt(rs.getObject(8, LocalDateTime.class));
+        return customer;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public JdbcCustomerReadRepository(DataSource dataSource, EntityManager entityManager,
+                                      @Value("${customer.jdbc.fetch-size:100}") int fetchSize) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<Customer> findByIsDeletedFalse(Pageable pageable) {
+        flushPendingChanges();
+        if (pageable.isUnpaged()) {
+            List<Customer> customers = jdbcTemplate.query(SELECT_ACTIVE + orderBy(pageable.getSort()), CUSTOMER_ROW_MAPPER);
+            return new PageImpl<>(customers);
+        }
+
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+        List<Customer> customers = jdbcTemplate.query(
+                SELECT_ACTIVE + orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset",
+                parameters, CUSTOMER_ROW_MAPPER);
+
+        // Solo se cuenta cuando el total no se puede deducir de la página
+        return PageableExecutionUtils.getPage(customers, pageable, this::countByIsDeletedFalse);
+    }
+
+    @Override
+    public Optional<Customer> findByIdAndIsDeletedFalse(Long id) {
+        flushPendingChanges();
+        List<Customer> customers = jdbcTemplate.query(FIND_BY_ID, new MapSqlParameterSource("id", id), CUSTOMER_ROW_MAPPER);
+        return customers.isEmpty() ? Optional.empty() : Optional.of(customers.get(0));
+    }
+
+    @Override
+    public long countByIsDeletedFalse() {
+        flushPendingChanges();
+        Long count = jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_ACTIVE, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Vuelca los cambios JPA pendientes de la transacción de escritura en curso, como haría
+     * Hibernate antes de una consulta (FlushMode AUTO). Las transacciones de solo lectura no
+     * tienen cambios pendientes
+     */
+    private void flushPendingChanges() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+    }
+
+    /**
+     * Sin orden explícito se ordena por ID, para que las páginas sean estables
+     */
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return " ORDER BY id";
+        }
+        StringJoiner orders = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("Cannot sort customers by: " + order.getProperty());
+            }
+            orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orders.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    
+    /**
+     * Find a refresh token by the hash of its value, together with its user
+     * @param tokenHash the SHA-256 of the token
+     * @return Optional containing the token if found
+     */
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHash(@Param("tokenHash") String tokenHash);
+    
+    /**
+     * Mark a token as used, only if it was not used before
+     * @param id the token ID
+     * @return 1 if this call consumed the token, 0 if it had already been consumed
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.id = :id AND t.revoked = false")
+    int consume(@Param("id") Long id);
+    
+    /**
+     * Revoke every token of a family (reuse of an already rotated token)
+     * @param familyId the family ID
+     * @return number of revoked tokens
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true WHERE t.familyId = :familyId AND t.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+    
+    /**
+     * Delete the tokens expired before the given instant
+     * @param before the expiration bound
+     * @return number of deleted tokens
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :before")
+    int deleteExpired(@Param("before") LocalDateTime before);
+}
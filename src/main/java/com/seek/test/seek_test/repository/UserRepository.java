@@ -2,14 +2,19 @@ package com.seek.test.seek_test.repository;
 
 import com.seek.test.seek_test.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     
     /**
      * Find user by username and active status
@@ -32,4 +37,64 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return Optional containing the user if found
      */
     Optional<User> findByUsername(String username);
-} 
\ No newline at end of file
+    
+    /**
+     * Find all active users
+     * @return list of active users
+     */
+    List<User> findByIsActiveTrue();
+    
+    /**
+     * Count active users
+     * @return number of active users
+     */
+    long countByIsActiveTrue();
+    
+    /**
+     * Find users changed since the given instant (created, updated, activated or deactivated)
+     * @param since the lower bound of the update timestamp (inclusive)
+     * @return list of changed users
+     */
+    List<User> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+    
+    /**
+     * Replace the stored password hash without bumping the credential epoch
+     * @param username the username whose hash is replaced
+     * @param password the new password hash
+     * @return number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+    
+    /**
+     * Activate the inactive users among the given IDs in a single statement
+     * @param ids the user IDs
+     * @param now the update timestamp
+     * @return number of activated users
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.isActive = true, u.updatedAt = :now WHERE u.id IN :ids AND u.isActive = false")
+    int activateByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * Deactivate the active users among the given IDs and bump their credential epoch in a single statement
+     * @param ids the user IDs
+     * @param now the update timestamp
+     * @return number of deactivated users
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.isActive = false, u.credentialEpoch = u.credentialEpoch + 1, u.updatedAt = :now " +
+           "WHERE u.id IN :ids AND u.isActive = true")
+    int deactivateByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * Delete the given users in a single statement (their refresh tokens are removed by the foreign key cascade)
+     * @param ids the user IDs
+     * @return number of deleted users
+     */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,29 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.dto.UserFilterDto;
+import com.seek.test.seek_test.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Find a page of the users matching the filter, ordered by ID
+     * @param filter the optional active status, username prefix and creation range
+     * @param pageable the page to fetch
+     * @return the page; the count query is skipped when the page itself reveals the total
+     */
+    Page<User> findFiltered(UserFilterDto filter, Pageable pageable);
+    
+    /**
+     * Find the users matching the filter with an ID greater than the cursor, ordered by ID.
+     * Unlike offset paging, the cost does not grow with the position in the listing.
+     * @param filter the optional active status, username prefix and creation range
+     * @param afterId the last ID of the previous page, or null for the first page
+     * @param limit the maximum number of users
+     * @return the matching users
+     */
+    List<User> findFilteredAfter(UserFilterDto filter, Long afterId, int limit);
+}
@@ -0,0 +1,93 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.dto.UserFilterDto;
+import com.seek.test.seek_test.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dynamic user listing queries. Only the predicates present in the filter are added,
+ * so MySQL can use the username, active status and creation date indexes.
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<User> findFiltered(UserFilterDto filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> user = query.from(User.class);
+        query.select(user)
+                .where(toPredicates(filter, cb, user).toArray(new Predicate[0]))
+                .orderBy(cb.asc(user.get("id")));
+
+        List<User> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    @Override
+    public List<User> findFilteredAfter(UserFilterDto filter, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> user = query.from(User.class);
+
+        List<Predicate> predicates = toPredicates(filter, cb, user);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(user.get("id"), afterId));
+        }
+        query.select(user)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.asc(user.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(UserFilterDto filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<User> user = query.from(User.class);
+        query.select(cb.count(user))
+                .where(toPredicates(filter, cb, user).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> toPredicates(UserFilterDto filter, CriteriaBuilder cb, Root<User> user) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (filter.getActive() != null) {
+            predicates.add(cb.equal(user.get("isActive"), filter.getActive()));
+        }
+        if (filter.getUsernamePrefix() != null && !filter.getUsernamePrefix().isEmpty()) {
+            predicates.add(cb.like(user.get("username"), escapeLike(filter.getUsernamePrefix()) + "%", '\\'));
+        }
+        if (filter.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(user.get("createdAt"), filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(user.get("createdAt"), filter.getCreatedTo()));
+        }
+        return predicates;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
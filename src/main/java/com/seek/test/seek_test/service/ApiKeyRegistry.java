@@ -0,0 +1,165 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.entity.ApiKey;
+import com.seek.test.seek_test.repository.ApiKeyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable in-memory table of the active API keys, keyed by the SHA-256 of the key.
+ * Authenticating a request is one digest and one hash lookup, with no database access.
+ *
+ * The table is rebuilt after a key is created or revoked on this instance, and when polling
+ * detects that the api_keys table changed elsewhere (latest update timestamp or row count).
+ */
+@Service
+public class ApiKeyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiKeyRegistry.class);
+
+    public static final String AUTHORITY_PREFIX = "SCOPE_";
+    public static final String PRINCIPAL_PREFIX = "api-key:";
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    // Not synchronized: reloads run queries, which would pin the carrier of a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Map<String, ApiKeyPrincipal> keys = Map.of();
+    private volatile LocalDateTime lastUpdatedAt;
+    private volatile long totalKeys = -1;
+
+    public ApiKeyRegistry(ApiKeyRepository apiKeyRepository, MeterRegistry meterRegistry) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.acceptedCounter = Counter.builder("auth.api_key.requests")
+                .tag("result", "accepted")
+                .description("Number of requests authenticated with an API key")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.api_key.requests")
+                .tag("result", "rejected")
+                .description("Number of requests with an unknown, revoked or expired API key")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the active API keys
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lock.lock();
+        try {
+            // Read the change markers first: a change committed while loading triggers another reload
+            LocalDateTime updatedAt = apiKeyRepository.findLastUpdatedAt();
+            long total = apiKeyRepository.count();
+
+            Map<String, ApiKeyPrincipal> loaded = new HashMap<>();
+            for (ApiKey apiKey : apiKeyRepository.findByIsActiveTrue()) {
+                loaded.put(apiKey.getKeyHash(), toPrincipal(apiKey));
+            }
+
+            keys = Map.copyOf(loaded);
+            lastUpdatedAt = updatedAt;
+            totalKeys = total;
+            log.info("API key registry loaded with {} active keys", loaded.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the table once the transaction that created or revoked a key has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApiKeysChanged(ApiKeysChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * Reloads when another instance created, revoked or deleted a key
+     */
+    @Scheduled(fixedDelayString = "${api-key.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (totalKeys < 0) {
+            return;
+        }
+        try {
+            if (!Objects.equals(apiKeyRepository.findLastUpdatedAt(), lastUpdatedAt)
+                    || apiKeyRepository.count() != totalKeys) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Could not refresh the API key registry", e);
+        }
+    }
+
+    /**
+     * Resolves the key presented by a client
+     * @param rawKey the API key from the request header
+     * @return the key principal if the key is active and not expired
+     */
+    public Optional<ApiKeyPrincipal> authenticate(String rawKey) {
+        ApiKeyPrincipal principal = keys.get(hash(rawKey));
+        if (principal == null || principal.isExpired(LocalDateTime.now())) {
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+        acceptedCounter.increment();
+        return Optional.of(principal);
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    static String hash(String rawKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static ApiKeyPrincipal toPrincipal(ApiKey apiKey) {
+        // Authorities are built once here so authenticated requests allocate nothing for them
+        List<GrantedAuthority> authorities = Arrays.stream(apiKey.getScopes().split(","))
+                .map(String::trim)
+                .filter(scope -> !scope.isEmpty())
+                .map(scope -> (GrantedAuthority) new SimpleGrantedAuthority(AUTHORITY_PREFIX + scope))
+                .toList();
+        return new ApiKeyPrincipal(apiKey.getId(), PRINCIPAL_PREFIX + apiKey.getName(), authorities, apiKey.getExpiresAt());
+    }
+
+    /**
+     * Identity and scopes of an active API key
+     */
+    public record ApiKeyPrincipal(Long id, String name, List<GrantedAuthority> authorities, LocalDateTime expiresAt) {
+
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt != null && !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.ApiKeyCreateResponseDto;
+import com.seek.test.seek_test.dto.ApiKeyRequestDto;
+import com.seek.test.seek_test.dto.ApiKeyResponseDto;
+import com.seek.test.seek_test.entity.ApiKey;
+import com.seek.test.seek_test.repository.ApiKeyRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class ApiKeyService {
+
+    /**
+     * Scopes that can be granted to a key; each becomes a SCOPE_ authority
+     */
+    public static final Set<String> SCOPES = Set.of("customers:read", "customers:write", "users:read", "users:write");
+
+    private static final String KEY_PREFIX = "sk_";
+    private static final int KEY_BYTES = 32;
+    private static final int DISPLAYED_PREFIX_LENGTH = 10;
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public ApiKeyService(ApiKeyRepository apiKeyRepository, ApplicationEventPublisher eventPublisher) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Create a new API key
+     * @param request the key name, scopes and optional expiration
+     * @return the creation response, the only place where the key is ever returned
+     */
+    public ApiKeyCreateResponseDto createApiKey(ApiKeyRequestDto request) {
+        if (apiKeyRepository.existsByName(request.getName())) {
+            throw new IllegalArgumentException("API key name already exists: " + request.getName());
+        }
+        List<String> scopes = request.getScopes().stream().map(String::trim).distinct().toList();
+        for (String scope : scopes) {
+            if (!SCOPES.contains(scope)) {
+                throw new IllegalArgumentException("Unknown scope: " + scope + ". Allowed scopes: " + SCOPES);
+            }
+        }
+
+        byte[] bytes = new byte[KEY_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawKey = KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime expiresAt = request.getExpiresInDays() != null
+                ? LocalDateTime.now().plusDays(request.getExpiresInDays())
+                : null;
+
+        ApiKey savedKey = apiKeyRepository.save(new ApiKey(
+                request.getName(),
+                rawKey.substring(0, DISPLAYED_PREFIX_LENGTH),
+                ApiKeyRegistry.hash(rawKey),
+                String.join(",", scopes),
+                expiresAt));
+        eventPublisher.publishEvent(new ApiKeysChangedEvent(savedKey.getId()));
+
+        return ApiKeyCreateResponseDto.builder()
+                .message("API key '" + savedKey.getName() + "' created successfully")
+                .id(savedKey.getId())
+                .name(savedKey.getName())
+                .apiKey(rawKey)
+                .scopes(scopes)
+                .expiresAt(savedKey.getExpiresAt())
+                .createdAt(savedKey.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Find all API keys (active and revoked)
+     * @return list of API keys without the keys themselves
+     */
+    public List<ApiKeyResponseDto> findAllApiKeys() {
+        return apiKeyRepository.findAll().stream()
+                .map(this::convertToResponseDto)
+                .toList();
+    }
+
+    /**
+     * Revoke an API key; requests using it are rejected as soon as the registry reloads
+     * @param id the API key ID to revoke
+     * @return the revoked API key
+     */
+    public ApiKeyResponseDto revokeApiKey(Long id) {
+        ApiKey apiKey = apiKeyRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("API key not found with ID: " + id));
+
+        apiKey.setIsActive(false);
+        ApiKey savedKey = apiKeyRepository.save(apiKey);
+        eventPublisher.publishEvent(new ApiKeysChangedEvent(savedKey.getId()));
+
+        return convertToResponseDto(savedKey);
+    }
+
+    private ApiKeyResponseDto convertToResponseDto(ApiKey apiKey) {
+        return ApiKeyResponseDto.builder()
+                .id(apiKey.getId())
+                .name(apiKey.getName())
+                .keyPrefix(apiKey.getKeyPrefix())
+                .scopes(Arrays.asList(apiKey.getScopes().split(",")))
+                .isActive(apiKey.getIsActive())
+                .expiresAt(apiKey.getExpiresAt())
+                .createdAt(apiKey.getCreatedAt())
+                .updatedAt(apiKey.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.seek.test.seek_test.service;
+
+/**
+ * Published after an API key is created or revoked, so the in-memory key table is rebuilt
+ */
+public record ApiKeysChangedEvent(Long apiKeyId) {
+}
@@ -0,0 +1,178 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.entity.User;
+import com.seek.test.seek_test.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory table of the current credential epoch of every active user.
+ * A token is accepted without touching the database when the epoch it carries
+ * matches the one in this table; inactive and deleted users are simply absent.
+ *
+ * Changes made by this instance are applied immediately through
+ * {@link UserCredentialsChangedEvent}; changes made by other instances are picked up
+ * by polling the users updated since the last refresh and republished as the same event,
+ * so the local caches (verified tokens, user details) are invalidated on every instance.
+ */
+@Service
+public class CredentialEpochRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(CredentialEpochRegistry.class);
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    // Replaced as a whole on reload, so readers never see it empty or half loaded
+    private volatile Map<String, Long> epochs = new ConcurrentHashMap<>();
+    // Not synchronized: the reloads run queries, which would pin the carrier of a virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile LocalDateTime watermark;
+    private volatile boolean ready = false;
+
+    @Value("${jwt.epoch.refresh-overlap-ms:2000}")
+    private long refreshOverlapMs;
+
+    public CredentialEpochRegistry(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Loads the epochs of all the active users
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        lock.lock();
+        try {
+            doReload();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void doReload() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<User> activeUsers = userRepository.findByIsActiveTrue();
+
+        Map<String, Long> loaded = new ConcurrentHashMap<>(Math.max(16, activeUsers.size() * 4 / 3 + 1));
+        activeUsers.forEach(user -> loaded.put(user.getUsername(), epochOf(user)));
+        Map<String, Long> previous = epochs;
+        epochs = loaded;
+        watermark = startedAt;
+
+        if (ready) {
+            List<UserCredentialsChangedEvent> changes = new ArrayList<>();
+            previous.forEach((username, epoch) -> {
+                if (!loaded.containsKey(username)) {
+                    changes.add(new UserCredentialsChangedEvent(username, epoch + 1, false));
+                } else if (!Objects.equals(loaded.get(username), epoch)) {
+                    changes.add(new UserCredentialsChangedEvent(username, loaded.get(username), true));
+                }
+            });
+            publish(changes);
+        }
+        ready = true;
+        log.info("Credential epoch registry loaded with {} active users", loaded.size());
+    }
+
+    /**
+     * Applies the users changed since the last refresh. Deleted rows leave no trace to poll,
+     * so a mismatch with the number of active users triggers a full reload.
+     */
+    @Scheduled(fixedDelayString = "${jwt.epoch.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!ready) {
+            return;
+        }
+        lock.lock();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<UserCredentialsChangedEvent> changes = new ArrayList<>();
+            for (User user : userRepository.findByUpdatedAtGreaterThanEqual(watermark.minusNanos(refreshOverlapMs * 1_000_000))) {
+                boolean active = Boolean.TRUE.equals(user.getIsActive());
+                Long known = epochs.get(user.getUsername());
+                Long current = active ? epochOf(user) : null;
+                if (Objects.equals(known, current)) {
+                    continue;
+                }
+                if (active) {
+                    put(user);
+                } else {
+                    epochs.remove(user.getUsername());
+                }
+                // Changed by another instance: let the local caches drop what they hold for the user
+                changes.add(new UserCredentialsChangedEvent(user.getUsername(), epochOf(user), active));
+            }
+            watermark = startedAt;
+            publish(changes);
+
+            if (userRepository.countByIsActiveTrue() != epochs.size()) {
+                doReload();
+            }
+        } catch (Exception e) {
+            log.warn("Could not refresh the credential epoch registry", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onCredentialsChanged(UserCredentialsChangedEvent event) {
+        if (event.active()) {
+            epochs.merge(event.username(), event.credentialEpoch(), Math::max);
+        } else {
+            epochs.remove(event.username());
+        }
+    }
+
+    @EventListener
+    public void onCredentialsChanged(UserCredentialsBatchChangedEvent event) {
+        event.changes().forEach(this::onCredentialsChanged);
+    }
+
+    /**
+     * Checks whether a token issued with the given epoch is still valid for the user
+     */
+    public boolean isCurrent(String username, long credentialEpoch) {
+        Long current = epochs.get(username);
+        return current != null && current == credentialEpoch;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Publishes remote changes, as one batch event when a bulk operation changed several users
+     */
+    private void publish(List<UserCredentialsChangedEvent> changes) {
+        if (changes.size() == 1) {
+            eventPublisher.publishEvent(changes.get(0));
+        } else if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new UserCredentialsBatchChangedEvent(changes));
+        }
+    }
+
+    private void put(User user) {
+        epochs.put(user.getUsername(), epochOf(user));
+    }
+
+    private static long epochOf(User user) {
+        return user.getCredentialEpoch() != null ? user.getCredentialEpoch() : 0L;
+    }
+}
@@ -0,0 +1,207 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CustomerFilterDto;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed bitmap indexes over the active customers kept in {@link CustomerSnapshotStore}.
+ * Every customer gets a dense ordinal and one bit in the bitmap of its age, birth month
+ * and birth year, so filtered counts are answered with bitmap OR/AND instead of a table scan.
+ */
+@Component
+@Slf4j
+public class CustomerBitmapIndex implements CustomerSnapshotStore.Listener {
+
+    private static final int MAX_AGE = 150;
+
+    private final CustomerSnapshotStore customerSnapshotStore;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap[] byAge = new RoaringBitmap[MAX_AGE + 1];
+    private final RoaringBitmap[] byBirthMonth = new RoaringBitmap[13];
+    private final Map<Integer, RoaringBitmap> byBirthYear = new HashMap<>();
+
+    private final CustomerOrdinals ordinals = new CustomerOrdinals();
+
+    public CustomerBitmapIndex(CustomerSnapshotStore customerSnapshotStore) {
+        this.customerSnapshotStore = customerSnapshotStore;
+        for (int i = 0; i < byAge.length; i++) {
+            byAge[i] = new RoaringBitmap();
+        }
+        for (int i = 0; i < byBirthMonth.length; i++) {
+            byBirthMonth[i] = new RoaringBitmap();
+        }
+    }
+
+    @PostConstruct
+    void register() {
+        customerSnapshotStore.addListener(this);
+    }
+
+    @Override
+    public void onReplaceAll(Collection<CustomerSnapshotStore.Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            Arrays.stream(byAge).forEach(RoaringBitmap::clear);
+            Arrays.stream(byBirthMonth).forEach(RoaringBitmap::clear);
+            byBirthYear.clear();
+            ordinals.clear();
+
+            for (CustomerSnapshotStore.Entry entry : entries) {
+                addBits(ordinals.assign(entry.id()), entry);
+            }
+
+            all.runOptimize();
+            Arrays.stream(byAge).forEach(RoaringBitmap::runOptimize);
+            Arrays.stream(byBirthMonth).forEach(RoaringBitmap::runOptimize);
+            byBirthYear.values().forEach(RoaringBitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Customer bitmap index rebuilt with {} customers", entries.size());
+    }
+
+    @Override
+    public void onUpsert(CustomerSnapshotStore.Entry previous, CustomerSnapshotStore.Entry current) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(current.id());
+            if (ordinal == null) {
+                ordinal = ordinals.assign(current.id());
+            } else if (previous != null) {
+                removeBits(ordinal, previous);
+            }
+            addBits(ordinal, current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(CustomerSnapshotStore.Entry removed) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.release(removed.id());
+            if (ordinal != null) {
+                removeBits(ordinal, removed);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the customers matching the filter and optionally collects up to {@code maxIds} of their IDs
+     */
+    public Match match(CustomerFilterDto filter, boolean withIds, int maxIds) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> dimensions = new ArrayList<>(3);
+
+            if (filter.getMinAge() != null || filter.getMaxAge() != null) {
+                int from = Math.max(0, filter.getMinAge() != null ? filter.getMinAge() : 0);
+                int to = Math.min(MAX_AGE, filter.getMaxAge() != null ? filter.getMaxAge() : MAX_AGE);
+                List<RoaringBitmap> ages = new ArrayList<>();
+                for (int age = from; age <= to; age++) {
+                    ages.add(byAge[age]);
+                }
+                dimensions.add(union(ages));
+            }
+
+            if (filter.getBirthMonths() != null && !filter.getBirthMonths().isEmpty()) {
+                List<RoaringBitmap> months = new ArrayList<>();
+                for (Integer month : filter.getBirthMonths()) {
+                    if (month != null && month >= 1 && month <= 12) {
+                        months.add(byBirthMonth[month]);
+                    }
+                }
+                dimensions.add(union(months));
+            }
+
+            if (filter.getBirthYearFrom() != null || filter.getBirthYearTo() != null) {
+                int from = filter.getBirthYearFrom() != null ? filter.getBirthYearFrom() : Integer.MIN_VALUE;
+                int to = filter.getBirthYearTo() != null ? filter.getBirthYearTo() : Integer.MAX_VALUE;
+                List<RoaringBitmap> years = new ArrayList<>();
+                byBirthYear.forEach((year, bitmap) -> {
+                    if (year >= from && year <= to) {
+                        years.add(bitmap);
+                    }
+                });
+                dimensions.add(union(years));
+            }
+
+            RoaringBitmap result;
+            if (dimensions.isEmpty()) {
+                result = all;
+            } else if (dimensions.size() == 1) {
+                result = dimensions.get(0);
+            } else if (!withIds && dimensions.size() == 2) {
+                return new Match(RoaringBitmap.andCardinality(dimensions.get(0), dimensions.get(1)), List.of(), false);
+            } else {
+                result = FastAggregation.and(dimensions.toArray(new RoaringBitmap[0]));
+            }
+
+            long count = result.getLongCardinality();
+            if (!withIds) {
+                return new Match(count, List.of(), false);
+            }
+
+            List<Long> matchingIds = new ArrayList<>((int) Math.min(count, maxIds));
+            IntIterator iterator = result.getIntIterator();
+            while (iterator.hasNext() && matchingIds.size() < maxIds) {
+                matchingIds.add(ordinals.idOf(iterator.next()));
+            }
+            return new Match(count, matchingIds, count > matchingIds.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap union(List<RoaringBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        if (bitmaps.size() == 1) {
+            return bitmaps.get(0);
+        }
+        return FastAggregation.or(bitmaps.toArray(new RoaringBitmap[0]));
+    }
+
+    private void addBits(int ordinal, CustomerSnapshotStore.Entry entry) {
+        all.add(ordinal);
+        byAge[Math.min(MAX_AGE, Math.max(0, entry.age()))].add(ordinal);
+        byBirthMonth[entry.birthDate().getMonthValue()].add(ordinal);
+        byBirthYear.computeIfAbsent(entry.birthDate().getYear(), year -> new RoaringBitmap()).add(ordinal);
+    }
+
+    private void removeBits(int ordinal, CustomerSnapshotStore.Entry entry) {
+        all.remove(ordinal);
+        byAge[Math.min(MAX_AGE, Math.max(0, entry.age()))].remove(ordinal);
+        byBirthMonth[entry.birthDate().getMonthValue()].remove(ordinal);
+        RoaringBitmap year = byBirthYear.get(entry.birthDate().getYear());
+        if (year != null) {
+            year.remove(ordinal);
+        }
+    }
+
+    /**
+     * Result of a filtered match
+     */
+    public record Match(long count, List<Long> ids, boolean truncated) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.seek.test.seek_test.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Columnar copy of the active customers kept in {@link CustomerSnapshotStore}: one array per
+ * attribute, indexed by a dense ordinal, so aggregations scan contiguous memory.
+ * Free slots hold an age of {@link #EMPTY} and never match an age predicate.
+ */
+@Component
+@Slf4j
+public class CustomerColumnStore implements CustomerSnapshotStore.Listener {
+
+    static final int EMPTY = -1;
+
+    private final CustomerSnapshotStore customerSnapshotStore;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CustomerOrdinals ordinals = new CustomerOrdinals();
+
+    private int[] ages = new int[1024];
+    private int[] birthEpochDays = new int[1024];
+    private long[] createdEpochSeconds = new long[1024];
+    private String[] lastNames = new String[1024];
+
+    public CustomerColumnStore(CustomerSnapshotStore customerSnapshotStore) {
+        this.customerSnapshotStore = customerSnapshotStore;
+        Arrays.fill(ages, EMPTY);
+    }
+
+    @PostConstruct
+    void register() {
+        customerSnapshotStore.addListener(this);
+    }
+
+    @Override
+    public void onReplaceAll(Collection<CustomerSnapshotStore.Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            int capacity = Math.max(1024, entries.size());
+            ages = new int[capacity];
+            birthEpochDays = new int[capacity];
+            createdEpochSeconds = new long[capacity];
+            lastNames = new String[capacity];
+            Arrays.fill(ages, EMPTY);
+
+            for (CustomerSnapshotStore.Entry entry : entries) {
+                write(ordinals.assign(entry.id()), entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Customer column store rebuilt with {} customers", entries.size());
+    }
+
+    @Override
+    public void onUpsert(CustomerSnapshotStore.Entry previous, CustomerSnapshotStore.Entry current) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(current.id());
+            write(ordinal != null ? ordinal : ordinals.assign(current.id()), current);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(CustomerSnapshotStore.Entry removed) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.release(removed.id());
+            if (ordinal != null) {
+                ages[ordinal] = EMPTY;
+                lastNames[ordinal] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a read-only function over the columns; writers wait until it returns
+     */
+    public <T> T read(Function<Columns, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(new Columns(ages, birthEpochDays, createdEpochSeconds, lastNames, ordinals.capacity()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(int ordinal, CustomerSnapshotStore.Entry entry) {
+        if (ordinal >= ages.length) {
+            int capacity = ages.length * 2;
+            ages = Arrays.copyOf(ages, capacity);
+            birthEpochDays = Arrays.copyOf(birthEpochDays, capacity);
+            createdEpochSeconds = Arrays.copyOf(createdEpochSeconds, capacity);
+            lastNames = Arrays.copyOf(lastNames, capacity);
+            Arrays.fill(ages, ordinal, capacity, EMPTY);
+        }
+        ages[ordinal] = entry.age();
+        birthEpochDays[ordinal] = (int) entry.birthDate().toEpochDay();
+        createdEpochSeconds[ordinal] = entry.createdAt() != null ? entry.createdAt().toEpochSecond(ZoneOffset.UTC) : 0L;
+        lastNames[ordinal] = entry.lastName();
+    }
+
+    /**
+     * Read-only view of the columns; only the first {@code length} slots are in use
+     */
+    public record Columns(int[] ages, int[] birthEpochDays, long[] createdEpochSeconds, String[] lastNames, int length) {
+    }
+}
@@ -0,0 +1,278 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CompositeOperationDto;
+import com.seek.test.seek_test.dto.CompositeRequestDto;
+import com.seek.test.seek_test.dto.CompositeResponseDto;
+import com.seek.test.seek_test.dto.CompositeResultDto;
+import com.seek.test.seek_test.dto.CustomerRequestDto;
+import com.seek.test.seek_test.exception.AgeBirthDateMismatchException;
+import com.seek.test.seek_test.exception.CustomerNotFoundException;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Runs an ordered list of customer operations from a single request, so a client pays for
+ * one HTTP round trip and one pass through the security filters instead of one per operation.
+ *
+ * Transactional requests run every operation on the request thread inside one transaction;
+ * the first failure rolls all of them back and the remaining operations are not run.
+ * Otherwise each operation runs in its own transaction, and runs of consecutive reads are
+ * executed in parallel (a write is a barrier, so reads always see the writes before them).
+ * Parallel reads run on a small pool of their own, so composite requests cannot take the
+ * threads of the shared task executor; a read the pool cannot take runs on the request thread.
+ */
+@Service
+public class CustomerCompositeService {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerCompositeService.class);
+
+    private final CustomerService customerService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor readExecutor;
+    private final int maxOperations;
+    private final int maxParallelReads;
+    private final long readTimeoutMs;
+
+    public CustomerCompositeService(CustomerService customerService, Validator validator,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${customer.composite.max-operations:20}") int maxOperations,
+                                    @Value("${customer.composite.max-parallel-reads:4}") int maxParallelReads,
+                                    @Value("${customer.composite.read-threads:4}") int readThreads,
+                                    @Value("${customer.composite.read-timeout-ms:10000}") long readTimeoutMs) {
+        this.customerService = customerService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxOperations = maxOperations;
+        this.maxParallelReads = Math.max(1, maxParallelReads);
+        this.readTimeoutMs = readTimeoutMs;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("composite-read-");
+        threadFactory.setDaemon(true);
+        this.readExecutor = new ThreadPoolExecutor(
+                Math.max(1, readThreads), Math.max(1, readThreads),
+                60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        this.readExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Run the operations of a composite request
+     * @param request the operations, in order, and whether to run them in one transaction
+     * @param canWrite whether the caller may modify customers; write operations fail with 403 otherwise
+     * @return one result per operation, in request order
+     */
+    public CompositeResponseDto execute(CompositeRequestDto request, boolean canWrite) {
+        List<CompositeOperationDto> operations = request.getOperations();
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException("Too many operations: " + operations.size() + ", the maximum per request is " + maxOperations);
+        }
+
+        CompositeResultDto[] results = new CompositeResultDto[operations.size()];
+        boolean rolledBack = false;
+
+        if (request.isTransactional()) {
+            rolledBack = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                for (int i = 0; i < operations.size(); i++) {
+                    results[i] = run(i, operations.get(i), canWrite);
+                    if (results[i].getStatus() >= 400) {
+                        status.setRollbackOnly();
+                        for (int next = i + 1; next < operations.size(); next++) {
+                            results[next] = notRun(next, operations.get(next), "Not run: operation " + i + " failed");
+                        }
+                        return true;
+                    }
+                }
+                return false;
+            }));
+        } else {
+            int from = 0;
+            while (from < operations.size()) {
+                int to = from;
+                while (to < operations.size() && isRead(operations.get(to))) {
+                    to++;
+                }
+                if (to == from) {
+                    results[from] = run(from, operations.get(from), canWrite);
+                    from++;
+                } else {
+                    runReads(operations, from, to, results);
+                    from = to;
+                }
+            }
+        }
+
+        log.info("Composite request with {} operations completed (transactional: {}, rolled back: {})",
+                operations.size(), request.isTransactional(), rolledBack);
+        return CompositeResponseDto.builder()
+                .transactional(request.isTransactional())
+                .rolledBack(rolledBack)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readExecutor.shutdownNow();
+    }
+
+    /**
+     * Runs the reads in [from, to) on the read pool, at most maxParallelReads at a time; the
+     * request thread takes the first read of each wave itself, and any read the pool rejects.
+     * A read that does not finish within the read timeout is answered with 504
+     */
+    private void runReads(List<CompositeOperationDto> operations, int from, int to, CompositeResultDto[] results) {
+        for (int wave = from; wave < to; wave += maxParallelReads) {
+            int waveEnd = Math.min(to, wave + maxParallelReads);
+            List<CompletableFuture<CompositeResultDto>> futures = new ArrayList<>(waveEnd - wave - 1);
+            for (int i = wave + 1; i < waveEnd; i++) {
+                futures.add(submitRead(i, operations.get(i)));
+            }
+            results[wave] = run(wave, operations.get(wave), false);
+            for (int i = wave + 1; i < waveEnd; i++) {
+                results[i] = await(i, operations.get(i), futures.get(i - wave - 1));
+            }
+        }
+    }
+
+    private CompletableFuture<CompositeResultDto> submitRead(int index, CompositeOperationDto operation) {
+        CompletableFuture<CompositeResultDto> future = new CompletableFuture<>();
+        try {
+            // The caller's security context goes along, so the reads keep its read-your-writes routing
+            readExecutor.execute(new DelegatingSecurityContextRunnable(
+                    () -> future.complete(run(index, operation, false))));
+        } catch (RejectedExecutionException e) {
+            log.debug("Composite read pool is full, running operation {} on the request thread", index);
+            future.complete(run(index, operation, false));
+        }
+        return future.orTimeout(readTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private CompositeResultDto await(int index, CompositeOperationDto operation, CompletableFuture<CompositeResultDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("Composite operation {} ({}) timed out after {} ms", index, operation.getType(), readTimeoutMs);
+                return failure(index, operation.getType(), HttpStatus.GATEWAY_TIMEOUT,
+                        "Operation timed out after " + readTimeoutMs + " ms");
+            }
+            log.error("Unexpected error in composite operation {} ({})", index, operation.getType(), e.getCause());
+            return failure(index, operation.getType(), HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+        }
+    }
+
+    private CompositeResultDto run(int index, CompositeOperationDto operation, boolean canWrite) {
+        CompositeOperationDto.Type type = operation.getType();
+        if (type == null) {
+            return failure(index, null, HttpStatus.BAD_REQUEST, "Operation type is required");
+        }
+        if (!type.isRead() && !canWrite) {
+            return failure(index, type, HttpStatus.FORBIDDEN, "Write access is required for " + type);
+        }
+
+        try {
+            Object body = switch (type) {
+                case CREATE -> customerService.createCustomer(validated(operation.getCustomer()));
+                case UPDATE -> customerService.updateCustomer(requireId(operation), validated(operation.getCustomer()));
+                case DELETE -> customerService.deleteCustomer(requireId(operation));
+                case GET -> customerService.getCustomerById(requireId(operation));
+                case BATCH_GET -> customerService.getCustomersBatch(operation.getIds());
+                case LIST -> customerService.getAllCustomersPaginated(operation.getPage(), operation.getSize());
+                case METRICS -> customerService.getCustomerMetrics();
+            };
+            return CompositeResultDto.builder()
+                    .index(index)
+                    .type(type)
+                    .status(type == CompositeOperationDto.Type.CREATE ? HttpStatus.CREATED.value() : HttpStatus.OK.value())
+                    .body(body)
+                    .build();
+        } catch (InvalidOperationException e) {
+            return failure(index, type, HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (CustomerNotFoundException e) {
+            return failure(index, type, HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (AgeBirthDateMismatchException | IllegalArgumentException e) {
+            // Same status as GlobalExceptionHandler gives these on the individual endpoints
+            return failure(index, type, HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Unexpected error in composite operation {} ({})", index, type, e);
+            return failure(index, type, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+        }
+    }
+
+    /**
+     * Applies the bean validation that @Valid applies on the individual endpoints
+     */
+    private CustomerRequestDto validated(CustomerRequestDto customer) {
+        if (customer == null) {
+            throw new InvalidOperationException("Customer data is required");
+        }
+        Set<ConstraintViolation<CustomerRequestDto>> violations = validator.validate(customer);
+        if (!violations.isEmpty()) {
+            throw new InvalidOperationException("Validation failed: " + violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return customer;
+    }
+
+    private static Long requireId(CompositeOperationDto operation) {
+        if (operation.getId() == null) {
+            throw new InvalidOperationException("Customer ID is required for " + operation.getType());
+        }
+        return operation.getId();
+    }
+
+    private static boolean isRead(CompositeOperationDto operation) {
+        return operation.getType() != null && operation.getType().isRead();
+    }
+
+    private static CompositeResultDto failure(int index, CompositeOperationDto.Type type, HttpStatus status, String error) {
+        return CompositeResultDto.builder()
+                .index(index)
+                .type(type)
+                .status(status.value())
+                .error(error)
+                .build();
+    }
+
+    private static CompositeResultDto notRun(int index, CompositeOperationDto operation, String error) {
+        return failure(index, operation.getType(), HttpStatus.FAILED_DEPENDENCY, error);
+    }
+
+    private static final class InvalidOperationException extends RuntimeException {
+
+        InvalidOperationException(String message) {
+            super(message);
+        }
+    }
+}
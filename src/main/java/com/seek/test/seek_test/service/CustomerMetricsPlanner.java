@@ -0,0 +1,56 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CustomerFilterDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chooses where a filtered metrics request runs. A scan of the in-memory columns costs the same
+ * for every filter, while the pushed-down SQL aggregate costs a round trip plus the rows the
+ * database has to visit, so selective filters go to the database and broad ones stay in memory.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerMetricsPlanner {
+
+    private final CustomerSnapshotStore customerSnapshotStore;
+    private final CustomerScanEngine customerScanEngine;
+
+    @Value("${customer.metrics.planner.scan-cost-per-row-ns:1}")
+    private double scanCostPerRowNs;
+
+    @Value("${customer.metrics.planner.sql-cost-per-row-ns:2000}")
+    private double sqlCostPerRowNs;
+
+    @Value("${customer.metrics.planner.sql-round-trip-ns:1000000}")
+    private double sqlRoundTripNs;
+
+    @Value("${customer.metrics.planner.sample-size:1024}")
+    private int sampleSize;
+
+    /**
+     * Picks the cheapest execution path for the filter
+     */
+    public Plan plan(CustomerFilterDto filter) {
+        if (!customerSnapshotStore.isReady()) {
+            return Plan.DATABASE;
+        }
+
+        CustomerScanEngine.Estimate estimate = customerScanEngine.estimate(filter, sampleSize);
+        double inMemoryCost = estimate.activeRows() * scanCostPerRowNs;
+        double databaseCost = sqlRoundTripNs + estimate.activeRows() * estimate.selectivity() * sqlCostPerRowNs;
+
+        Plan plan = inMemoryCost <= databaseCost ? Plan.IN_MEMORY : Plan.DATABASE;
+        log.debug("Metrics plan {} for {} rows with estimated selectivity {} (in-memory {} ns, database {} ns)",
+                plan, estimate.activeRows(), estimate.selectivity(), inMemoryCost, databaseCost);
+        return plan;
+    }
+
+    public enum Plan {
+        IN_MEMORY,
+        DATABASE
+    }
+}
@@ -0,0 +1,68 @@
+package com.seek.test.seek_test.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dense ordinal <-> customer ID mapping used by the in-memory indexes and columns.
+ * Freed ordinals are reused so the structures indexed by ordinal stay compact.
+ * Not thread-safe: callers guard it with their own lock.
+ */
+class CustomerOrdinals {
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private long[] ids = new long[1024];
+    private int nextOrdinal = 0;
+
+    /**
+     * Gets the ordinal of a customer, or null if it has none
+     */
+    Integer get(Long id) {
+        return ordinals.get(id);
+    }
+
+    /**
+     * Assigns an ordinal to a customer, reusing a freed one when available
+     */
+    int assign(Long id) {
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal >= ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+        ids[ordinal] = id;
+        ordinals.put(id, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Releases the ordinal of a customer and returns it, or null if it had none
+     */
+    Integer release(Long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal != null) {
+            freeOrdinals.push(ordinal);
+        }
+        return ordinal;
+    }
+
+    long idOf(int ordinal) {
+        return ids[ordinal];
+    }
+
+    /**
+     * Upper bound (exclusive) of the ordinals handed out so far
+     */
+    int capacity() {
+        return nextOrdinal;
+    }
+
+    void clear() {
+        ordinals.clear();
+        freeOrdinals.clear();
+        nextOrdinal = 0;
+    }
+}
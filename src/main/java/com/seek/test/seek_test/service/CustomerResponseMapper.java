@@ -0,0 +1,199 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CustomerField;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
+import com.seek.test.seek_test.entity.Customer;
+import jakarta.persistence.Tuple;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maps customers to {@link CustomerResponseDto} for the read paths, which map whole pages
+ * and streams of rows.
+ *
+ * "Today" is read from the clock once per day instead of once per row, and the estimated
+ * life expectancy (today plus the remaining years) is cached per remaining-years value for
+ * that day, so customers of the same age share one LocalDate. DTOs are created through the
+ * constructor instead of a builder, lists are sized to the number of rows, and with a
+ * sparse fieldset the derived fields are only computed when they are requested.
+ */
+@Component
+public class CustomerResponseMapper {
+
+    private final Clock clock;
+    private volatile Day day;
+
+    public CustomerResponseMapper(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Current date in the clock's zone; the clock is only consulted again when the day is over
+     */
+    public LocalDate today() {
+        return currentDay().date;
+    }
+
+    public CustomerResponseDto toResponse(Customer customer) {
+        return toResponse(customer, currentDay());
+    }
+
+    public List<CustomerResponseDto> toResponses(List<Customer> customers) {
+        Day today = currentDay();
+        List<CustomerResponseDto> responses = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            responses.add(toResponse(customer, today));
+        }
+        return responses;
+    }
+
+    public CustomerResponseDto toResponse(CustomerSnapshotStore.Entry entry) {
+        return new CustomerResponseDto(
+                entry.id(),
+                entry.firstName(),
+                entry.lastName(),
+                fullName(entry.firstName(), entry.lastName()),
+                entry.age(),
+                entry.birthDate(),
+                currentDay().lifeExpectancy(entry.age()),
+                entry.createdAt(),
+                entry.updatedAt());
+    }
+
+    /**
+     * Maps only the requested fields; derived fields are computed only when they are requested
+     */
+    public CustomerResponseDto toResponse(Customer customer, Set<CustomerField> fields) {
+        return toResponse(customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getAge(),
+                customer.getBirthDate(), customer.getCreatedAt(), customer.getUpdatedAt(), fields, currentDay());
+    }
+
+    /**
+     * Maps projected rows holding only the given attributes
+     * @see com.seek.test.seek_test.repository.CustomerRepositoryCustom#findActiveAttributes
+     */
+    public List<CustomerResponseDto> toResponses(List<Tuple> rows, Set<String> attributes, Set<CustomerField> fields) {
+        Day today = currentDay();
+        List<CustomerResponseDto> responses = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            responses.add(toResponse(row, attributes, fields, today));
+        }
+        return responses;
+    }
+
+    public CustomerResponseDto toResponse(Tuple row, Set<String> attributes, Set<CustomerField> fields) {
+        return toResponse(row, attributes, fields, currentDay());
+    }
+
+    private CustomerResponseDto toResponse(Customer customer, Day today) {
+        return new CustomerResponseDto(
+                customer.getId(),
+                customer.getFirstName(),
+                customer.getLastName(),
+                fullName(customer.getFirstName(), customer.getLastName()),
+                customer.getAge(),
+                customer.getBirthDate(),
+                today.lifeExpectancy(customer.getAge()),
+                customer.getCreatedAt(),
+                customer.getUpdatedAt());
+    }
+
+    private CustomerResponseDto toResponse(Tuple row, Set<String> attributes, Set<CustomerField> fields, Day today) {
+        return toResponse(
+                attribute(row, attributes, "id", Long.class),
+                attribute(row, attributes, "firstName", String.class),
+                attribute(row, attributes, "lastName", String.class),
+                attribute(row, attributes, "age", Integer.class),
+                attribute(row, attributes, "birthDate", LocalDate.class),
+                attribute(row, attributes, "createdAt", LocalDateTime.class),
+                attribute(row, attributes, "updatedAt", LocalDateTime.class),
+                fields, today);
+    }
+
+    private static CustomerResponseDto toResponse(Long id, String firstName, String lastName, Integer age,
+                                                  LocalDate birthDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                                  Set<CustomerField> fields, Day today) {
+        CustomerResponseDto dto = new CustomerResponseDto();
+        for (CustomerField field : fields) {
+            switch (field) {
+                case ID -> dto.setId(id);
+                case FIRST_NAME -> dto.setFirstName(firstName);
+                case LAST_NAME -> dto.setLastName(lastName);
+                case FULL_NAME -> dto.setFullName(fullName(firstName, lastName));
+                case AGE -> dto.setAge(age);
+                case BIRTH_DATE -> dto.setBirthDate(birthDate);
+                case ESTIMATED_LIFE_EXPECTANCY -> dto.setEstimatedLifeExpectancy(today.lifeExpectancy(age));
+                case CREATED_AT -> dto.setCreatedAt(createdAt);
+                case UPDATED_AT -> dto.setUpdatedAt(updatedAt);
+            }
+        }
+        return dto;
+    }
+
+    /**
+     * Same text as Customer.getFullName()
+     */
+    private static String fullName(String firstName, String lastName) {
+        return firstName + " " + lastName;
+    }
+
+    private static <T> T attribute(Tuple row, Set<String> attributes, String name, Class<T> type) {
+        return attributes.contains(name) ? row.get(name, type) : null;
+    }
+
+    private Day currentDay() {
+        long now = clock.millis();
+        Day current = day;
+        if (current == null || now < current.startMillis || now >= current.endMillis) {
+            LocalDate date = LocalDate.now(clock);
+            current = new Day(date,
+                    date.atStartOfDay(clock.getZone()).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli());
+            day = current;
+        }
+        return current;
+    }
+
+    /**
+     * A calendar day with the life expectancy dates computed so far for it. Concurrent
+     * requests may compute the same slot twice; both store equal values
+     */
+    private static final class Day {
+
+        private final LocalDate date;
+        private final long startMillis;
+        private final long endMillis;
+        private final LocalDate[] lifeExpectancies = new LocalDate[Customer.AVERAGE_LIFE_EXPECTANCY + 1];
+
+        Day(LocalDate date, long startMillis, long endMillis) {
+            this.date = date;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+
+        /**
+         * Same value as Customer.calculateEstimatedLifeExpectancy(date)
+         */
+        LocalDate lifeExpectancy(Integer age) {
+            if (age == null) {
+                return null;
+            }
+            int remainingYears = Customer.remainingLifeYears(age);
+            if (remainingYears >= lifeExpectancies.length) {
+                return date.plusYears(remainingYears);
+            }
+            LocalDate cached = lifeExpectancies[remainingYears];
+            if (cached == null) {
+                cached = date.plusYears(remainingYears);
+                lifeExpectancies[remainingYears] = cached;
+            }
+            return cached;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CustomerFilterDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates age, birth-date, created-at and last-name prefix predicates over
+ * {@link CustomerColumnStore} and aggregates the ages of the matching customers into a
+ * histogram, from which count, sum, sum of squares, min, max and median are derived exactly.
+ *
+ * When the JVM runs with {@code --add-modules jdk.incubator.vector} the numeric predicates are
+ * evaluated a whole vector of rows at a time by {@link CustomerVectorScan}; otherwise the scalar
+ * loop below is used, whose predicates are branch-free (a 0/1 mask added to the histogram) so
+ * the JIT can unroll it. Large columns are split across cores with fork-join.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerScanEngine {
+
+    static final int HISTOGRAM_SIZE = 256;
+    static final int SPLIT_THRESHOLD = 1 << 16;
+
+    // The incubator module is only resolved when it is added on the command line
+    static final boolean VECTOR_API_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    // Keep the subtractions in the mask free of overflow
+    private static final int MIN_EPOCH_DAY = -1_000_000;
+    private static final int MAX_EPOCH_DAY = 1_000_000;
+    private static final long MIN_EPOCH_SECOND = -(1L << 50);
+    private static final long MAX_EPOCH_SECOND = 1L << 50;
+
+    private final CustomerColumnStore customerColumnStore;
+
+    /**
+     * Scans the columns with the predicates of the filter
+     */
+    public AgeHistogram scan(CustomerFilterDto filter) {
+        Predicate predicate = toPredicate(filter);
+
+        return customerColumnStore.read(columns -> {
+            long[] histogram = columns.length() <= SPLIT_THRESHOLD
+                    ? scanRange(columns, 0, columns.length(), predicate)
+                    : ForkJoinPool.commonPool().invoke(new ScanTask(columns, 0, columns.length(), predicate));
+            return new AgeHistogram(histogram);
+        });
+    }
+
+    /**
+     * Estimates how many active customers match the filter by evaluating it on an evenly spaced sample
+     */
+    public Estimate estimate(CustomerFilterDto filter, int sampleSize) {
+        Predicate predicate = toPredicate(filter);
+
+        return customerColumnStore.read(columns -> {
+            int length = columns.length();
+            if (length == 0) {
+                return new Estimate(0, 0.0);
+            }
+            int stride = Math.max(1, length / Math.max(1, sampleSize));
+            long sampled = 0;
+            long matched = 0;
+            for (int i = 0; i < length; i += stride) {
+                if (columns.ages()[i] == CustomerColumnStore.EMPTY) {
+                    continue;
+                }
+                sampled++;
+                matched += matches(columns, i, predicate);
+            }
+            if (sampled == 0) {
+                return new Estimate(0, 0.0);
+            }
+            // Never estimate zero from a sample: assume half a hit so very selective filters stay comparable
+            double selectivity = Math.max(matched, 0.5) / sampled;
+            long activeRows = Math.round(length * ((double) sampled / Math.ceil((double) length / stride)));
+            return new Estimate(activeRows, Math.min(1.0, selectivity));
+        });
+    }
+
+    /**
+     * Scans [from, to) with the vector path when the Vector API is available, the scalar one otherwise
+     */
+    static long[] scanRange(CustomerColumnStore.Columns columns, int from, int to, Predicate predicate) {
+        long[] histogram = new long[HISTOGRAM_SIZE];
+        if (VECTOR_API_AVAILABLE) {
+            CustomerVectorScan.scanRange(columns, from, to, predicate, histogram);
+        } else {
+            scalarScanRange(columns, from, to, predicate, histogram);
+        }
+        return histogram;
+    }
+
+    /**
+     * Scalar scan of [from, to) into the histogram: a row matches when every difference below is non-negative
+     */
+    static void scalarScanRange(CustomerColumnStore.Columns columns, int from, int to, Predicate predicate,
+                                long[] histogram) {
+        int[] ages = columns.ages();
+        int[] birthEpochDays = columns.birthEpochDays();
+        long[] createdEpochSeconds = columns.createdEpochSeconds();
+        int minAge = predicate.minAge();
+        int maxAge = predicate.maxAge();
+        int fromDay = predicate.fromEpochDay();
+        int toDay = predicate.toEpochDay();
+        long createdFrom = predicate.createdFromEpochSecond();
+        long createdTo = predicate.createdToEpochSecond();
+
+        if (predicate.lastNamePrefix() == null) {
+            for (int i = from; i < to; i++) {
+                int age = ages[i];
+                int day = birthEpochDays[i];
+                long created = createdEpochSeconds[i];
+                long outside = ((age - minAge) | (maxAge - age) | (day - fromDay) | (toDay - day))
+                        | (created - createdFrom) | (createdTo - created);
+                histogram[age & 0xFF] += (outside >>> 63) ^ 1;
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                histogram[ages[i] & 0xFF] += matches(columns, i, predicate);
+            }
+        }
+    }
+
+    private static int matches(CustomerColumnStore.Columns columns, int i, Predicate predicate) {
+        int age = columns.ages()[i];
+        int day = columns.birthEpochDays()[i];
+        long created = columns.createdEpochSeconds()[i];
+        long outside = ((age - predicate.minAge()) | (predicate.maxAge() - age)
+                | (day - predicate.fromEpochDay()) | (predicate.toEpochDay() - day))
+                | (created - predicate.createdFromEpochSecond()) | (predicate.createdToEpochSecond() - created);
+        if (outside < 0) {
+            return 0;
+        }
+        String prefix = predicate.lastNamePrefix();
+        if (prefix == null) {
+            return 1;
+        }
+        return hasLastNamePrefix(columns.lastNames()[i], prefix) ? 1 : 0;
+    }
+
+    /**
+     * Case-insensitive, like LIKE 'prefix%' under the default MySQL collation
+     */
+    static boolean hasLastNamePrefix(String lastName, String prefix) {
+        return lastName != null && lastName.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    static Predicate toPredicate(CustomerFilterDto filter) {
+        int minAge = filter.getMinAge() != null ? Math.max(0, filter.getMinAge()) : 0;
+        int maxAge = filter.getMaxAge() != null ? Math.min(HISTOGRAM_SIZE - 1, filter.getMaxAge()) : HISTOGRAM_SIZE - 1;
+
+        long fromDay = MIN_EPOCH_DAY;
+        long toDay = MAX_EPOCH_DAY;
+        if (filter.getBirthDateFrom() != null) {
+            fromDay = Math.max(fromDay, filter.getBirthDateFrom().toEpochDay());
+        }
+        if (filter.getBirthDateTo() != null) {
+            toDay = Math.min(toDay, filter.getBirthDateTo().toEpochDay());
+        }
+        if (filter.getBirthYearFrom() != null) {
+            fromDay = Math.max(fromDay, LocalDate.of(filter.getBirthYearFrom(), 1, 1).toEpochDay());
+        }
+        if (filter.getBirthYearTo() != null) {
+            toDay = Math.min(toDay, LocalDate.of(filter.getBirthYearTo(), 12, 31).toEpochDay());
+        }
+
+        long createdFrom = filter.getCreatedFrom() != null
+                ? Math.max(MIN_EPOCH_SECOND, filter.getCreatedFrom().toEpochSecond(ZoneOffset.UTC))
+                : MIN_EPOCH_SECOND;
+        long createdTo = filter.getCreatedTo() != null
+                ? Math.min(MAX_EPOCH_SECOND, filter.getCreatedTo().toEpochSecond(ZoneOffset.UTC))
+                : MAX_EPOCH_SECOND;
+
+        String lastNamePrefix = filter.getLastNamePrefix() != null && !filter.getLastNamePrefix().isEmpty()
+                ? filter.getLastNamePrefix()
+                : null;
+
+        return new Predicate(minAge, maxAge,
+                (int) Math.max(MIN_EPOCH_DAY, fromDay), (int) Math.min(MAX_EPOCH_DAY, toDay),
+                createdFrom, createdTo, lastNamePrefix);
+    }
+
+    record Predicate(int minAge, int maxAge, int fromEpochDay, int toEpochDay,
+                     long createdFromEpochSecond, long createdToEpochSecond, String lastNamePrefix) {
+
+        boolean hasCreatedRange() {
+            return createdFromEpochSecond > MIN_EPOCH_SECOND || createdToEpochSecond < MAX_EPOCH_SECOND;
+        }
+    }
+
+    /**
+     * Estimated number of active rows and fraction of them matching a filter
+     */
+    public record Estimate(long activeRows, double selectivity) {
+    }
+
+    private static final class ScanTask extends RecursiveTask<long[]> {
+
+        private final CustomerColumnStore.Columns columns;
+        private final int from;
+        private final int to;
+        private final Predicate predicate;
+
+        ScanTask(CustomerColumnStore.Columns columns, int from, int to, Predicate predicate) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                return scanRange(columns, from, to, predicate);
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(columns, from, middle, predicate);
+            left.fork();
+            long[] right = new ScanTask(columns, middle, to, predicate).compute();
+            long[] merged = left.join();
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] += right[i];
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * Ages of the matching customers, bucketed by age
+     */
+    public static final class AgeHistogram {
+
+        private final long[] buckets;
+        private final long count;
+        private final long sum;
+        private final long sumOfSquares;
+
+        AgeHistogram(long[] buckets) {
+            this.buckets = buckets;
+            long count = 0;
+            long sum = 0;
+            long sumOfSquares = 0;
+            for (int age = 0; age < buckets.length; age++) {
+                count += buckets[age];
+                sum += buckets[age] * age;
+                sumOfSquares += buckets[age] * age * age;
+            }
+            this.count = count;
+            this.sum = sum;
+            this.sumOfSquares = sumOfSquares;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long sum() {
+            return sum;
+        }
+
+        public long sumOfSquares() {
+            return sumOfSquares;
+        }
+
+        public Integer min() {
+            for (int age = 0; age < buckets.length; age++) {
+                if (buckets[age] > 0) {
+                    return age;
+                }
+            }
+            return null;
+        }
+
+        public Integer max() {
+            for (int age = buckets.length - 1; age >= 0; age--) {
+                if (buckets[age] > 0) {
+                    return age;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Average of the two central ages when the count is even, the central age otherwise
+         */
+        public Double median() {
+            if (count == 0) {
+                return null;
+            }
+            if (count % 2 == 0) {
+                return (ageAt(count / 2 - 1) + ageAt(count / 2)) / 2.0;
+            }
+            return (double) ageAt(count / 2);
+        }
+
+        /**
+         * Population standard deviation, same as the SQL aggregate used for the whole population
+         */
+        public Double standardDeviation() {
+            if (count == 0) {
+                return null;
+            }
+            double mean = (double) sum / count;
+            return Math.sqrt(Math.max(0.0, (double) sumOfSquares / count - mean * mean));
+        }
+
+        public Double average() {
+            return count == 0 ? null : (double) sum / count;
+        }
+
+        private int ageAt(long position) {
+            long seen = 0;
+            for (int age = 0; age < buckets.length; age++) {
+                seen += buckets[age];
+                if (seen > position) {
+                    return age;
+                }
+            }
+            throw new IllegalStateException("Position out of range: " + position);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.seek.test.seek_test.service;
 
+import com.seek.test.seek_test.dto.CustomerBatchItemDto;
+import com.seek.test.seek_test.dto.CustomerBatchResponseDto;
+import com.seek.test.seek_test.dto.CustomerCountResponseDto;
+import com.seek.test.seek_test.dto.CustomerField;
+import com.seek.test.seek_test.dto.CustomerFilterDto;
 import com.seek.test.seek_test.dto.CustomerMetricsDto;
 import com.seek.test.seek_test.dto.CustomerPageResponseDto;
 import com.seek.test.seek_test.dto.CustomerRequestDto;
@@ -8,19 +13,32 @@ import com.seek.test.seek_test.dto.DeleteResponseDto;
 import com.seek.test.seek_test.entity.Customer;
 import com.seek.test.seek_test.exception.AgeBirthDateMismatchException;
 import com.seek.test.seek_test.exception.CustomerNotFoundException;
+import com.seek.test.seek_test.repository.CustomerReadRepository;
 import com.seek.test.seek_test.repository.CustomerRepository;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -29,7 +47,25 @@ import java.util.stream.Collectors;
 public class CustomerService {
 
     private final CustomerRepository customerRepository;
+    private final CustomerReadRepository customerReadRepository;
     private final MonitoringService monitoringService;
+    private final CustomerSnapshotStore customerSnapshotStore;
+    private final CustomerBitmapIndex customerBitmapIndex;
+    private final CustomerScanEngine customerScanEngine;
+    private final CustomerMetricsPlanner customerMetricsPlanner;
+    private final CustomerResponseMapper customerResponseMapper;
+
+    @Value("${customer.bitmap.max-ids:10000}")
+    private int maxMatchingIds;
+
+    @Value("${customer.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    @Value("${customer.batch.max-ids:1000}")
+    private int maxBatchIds;
+
+    @Value("${customer.batch.chunk-size:500}")
+    private int batchChunkSize;
 
     /**
      * Creates a new customer
@@ -52,12 +88,13 @@ public class CustomerService {
 
             Customer savedCustomer = customerRepository.save(customer);
             log.info("Customer created successfully with ID: {}", savedCustomer.getId());
+            applyToSnapshotStoreAfterCommit(savedCustomer);
             
             // Record metrics
             monitoringService.recordCustomerCreated();
             monitoringService.recordCustomMetric("customer.total.count", customerRepository.countByIsDeletedFalse());
             
-            return mapToResponseDto(savedCustomer);
+            return customerResponseMapper.toResponse(savedCustomer);
         } finally {
             monitoringService.stopCustomerCreationTimer(timer);
         }
@@ -75,9 +112,7 @@ public class CustomerService {
         try {
             List<Customer> customers = customerRepository.findByIsDeletedFalse();
             monitoringService.recordCustomerRetrieved();
-            return customers.stream()
-                    .map(this::mapToResponseDto)
-                    .collect(Collectors.toList());
+            return customerResponseMapper.toResponses(customers);
         } finally {
             monitoringService.stopCustomerRetrievalTimer(timer);
         }
@@ -88,7 +123,16 @@ public class CustomerService {
      */
     @Transactional(readOnly = true)
     public CustomerPageResponseDto getAllCustomersPaginated(Integer page, Integer size) {
-        log.info("Getting customers with pagination - page: {}, size: {}", page, size);
+        return getAllCustomersPaginated(page, size, null);
+    }
+
+    /**
+     * Gets active customers with pagination, reading and filling only the requested fields
+     * @param fields fields to include in each customer, or null for all of them
+     */
+    @Transactional(readOnly = true)
+    public CustomerPageResponseDto getAllCustomersPaginated(Integer page, Integer size, Set<CustomerField> fields) {
+        log.info("Getting customers with pagination - page: {}, size: {}, fields: {}", page, size, fields);
         
         Timer.Sample timer = monitoringService.startCustomerRetrievalTimer();
         
@@ -97,7 +141,7 @@ public class CustomerService {
             int validSize = (size != null && size > 0 && size <= 100) ? size : 10;
             
             // First, get the total count to calculate total pages
-            long totalElements = customerRepository.countByIsDeletedFalse();
+            long totalElements = customerReadRepository.countByIsDeletedFalse();
             int totalPages = (int) Math.ceil((double) totalElements / validSize);
             
             // Convert 1-based page to 0-based for Spring Data
@@ -119,11 +163,20 @@ public class CustomerService {
             }
             
             Pageable pageable = PageRequest.of(zeroBasedPage, validSize);
-            Page<Customer> customerPage = customerRepository.findByIsDeletedFalse(pageable);
+            Page<CustomerResponseDto> customerPage;
+            if (fields == null) {
+                Page<Customer> entities = customerReadRepository.findByIsDeletedFalse(pageable);
+                customerPage = new PageImpl<>(customerResponseMapper.toResponses(entities.getContent()),
+                        entities.getPageable(), entities.getTotalElements());
+            } else {
+                // Only the columns behind the requested fields are selected; the total was counted above
+                Set<String> attributes = CustomerField.attributesOf(fields);
+                List<CustomerResponseDto> content = customerResponseMapper.toResponses(
+                        customerRepository.findActiveAttributes(attributes, pageable), attributes, fields);
+                customerPage = new PageImpl<>(content, pageable, totalElements);
+            }
             
-            List<CustomerResponseDto> customers = customerPage.getContent().stream()
-                    .map(this::mapToResponseDto)
-                    .collect(Collectors.toList());
+            List<CustomerResponseDto> customers = customerPage.getContent();
             
             monitoringService.recordCustomerRetrieved();
             
@@ -143,16 +196,144 @@ public class CustomerService {
         }
     }
 
+    /**
+     * Streams the active customers matching the filter to the sink, in ID order. Rows are read
+     * from a database cursor as the sink consumes them, so a slow sink holds the cursor back
+     * instead of the whole listing being buffered in memory
+     */
+    @Transactional(readOnly = true)
+    public long streamCustomers(CustomerFilterDto filter, Consumer<CustomerResponseDto> sink) {
+        return streamCustomers(filter, null, sink);
+    }
+
+    /**
+     * Same as {@link #streamCustomers(CustomerFilterDto, Consumer)}, filling only the requested fields
+     * @param fields fields to include in each customer, or null for all of them
+     */
+    @Transactional(readOnly = true)
+    public long streamCustomers(CustomerFilterDto filter, Set<CustomerField> fields, Consumer<CustomerResponseDto> sink) {
+        log.info("Streaming customers with filter: {}, fields: {}", filter, fields);
+
+        Timer.Sample timer = monitoringService.startCustomerRetrievalTimer();
+
+        try {
+            long streamed = customerRepository.forEachActive(filter, streamFetchSize,
+                    customer -> sink.accept(fields == null
+                            ? customerResponseMapper.toResponse(customer)
+                            : customerResponseMapper.toResponse(customer, fields)));
+            monitoringService.recordCustomerRetrieved();
+            log.info("Streamed {} customers", streamed);
+            return streamed;
+        } finally {
+            monitoringService.stopCustomerRetrievalTimer(timer);
+        }
+    }
+
     /**
      * Gets a customer by ID
      */
     @Transactional(readOnly = true)
     public CustomerResponseDto getCustomerById(Long id) {
         log.info("Searching for customer with ID: {}", id);
-        Customer customer = customerRepository.findByIdAndIsDeletedFalse(id)
+        Customer customer = customerReadRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id));
         
-        return mapToResponseDto(customer);
+        return customerResponseMapper.toResponse(customer);
+    }
+
+    /**
+     * Gets a customer by ID, reading and filling only the requested fields
+     * @param fields fields to include, or null for all of them
+     */
+    @Transactional(readOnly = true)
+    public CustomerResponseDto getCustomerById(Long id, Set<CustomerField> fields) {
+        if (fields == null) {
+            return getCustomerById(id);
+        }
+        log.info("Searching for customer with ID: {}, fields: {}", id, fields);
+        Set<String> attributes = CustomerField.attributesOf(fields);
+        Tuple row = customerRepository.findActiveAttributesById(attributes, id)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found with ID: " + id));
+
+        return customerResponseMapper.toResponse(row, attributes, fields);
+    }
+
+    /**
+     * Looks up several customers in one call. Duplicated IDs are resolved once; the result has
+     * one entry per requested ID, in request order, marking the IDs without an active customer
+     */
+    @Transactional(readOnly = true)
+    public CustomerBatchResponseDto getCustomersBatch(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one customer ID is required");
+        }
+        if (ids.size() > maxBatchIds) {
+            throw new IllegalArgumentException("Too many customer IDs: " + ids.size() + ", the maximum per call is " + maxBatchIds);
+        }
+
+        Timer.Sample timer = monitoringService.startCustomerRetrievalTimer();
+
+        try {
+            Map<Long, CustomerResponseDto> customers = getCustomersByIds(new LinkedHashSet<>(ids));
+
+            List<CustomerBatchItemDto> results = new ArrayList<>(ids.size());
+            int found = 0;
+            for (Long id : ids) {
+                CustomerResponseDto customer = customers.get(id);
+                if (customer != null) {
+                    found++;
+                }
+                results.add(CustomerBatchItemDto.builder()
+                        .id(id)
+                        .found(customer != null)
+                        .customer(customer)
+                        .build());
+            }
+
+            monitoringService.recordCustomerRetrieved();
+            return CustomerBatchResponseDto.builder()
+                    .results(results)
+                    .found(found)
+                    .notFound(ids.size() - found)
+                    .build();
+        } finally {
+            monitoringService.stopCustomerRetrievalTimer(timer);
+        }
+    }
+
+    /**
+     * Gets the active customers with the given IDs, keyed by ID. When the in-memory store is warm
+     * its hits are served from memory; the rest are loaded with IN queries of at most
+     * {@code customer.batch.chunk-size} IDs. IDs without an active customer are absent from the result
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, CustomerResponseDto> getCustomersByIds(Collection<Long> ids) {
+        log.info("Searching for {} customers by ID", ids.size());
+
+        Map<Long, CustomerResponseDto> customers = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        boolean storeReady = customerSnapshotStore.isReady();
+        for (Long id : ids) {
+            Optional<CustomerSnapshotStore.Entry> entry = storeReady ? customerSnapshotStore.get(id) : Optional.empty();
+            if (entry.isPresent()) {
+                customers.put(id, customerResponseMapper.toResponse(entry.get()));
+            } else {
+                misses.add(id);
+            }
+        }
+
+        // Misses still go to the database: the store catches up on new rows periodically
+        int chunkSize = Math.max(1, batchChunkSize);
+        for (int from = 0; from < misses.size(); from += chunkSize) {
+            List<Long> chunk = misses.subList(from, Math.min(from + chunkSize, misses.size()));
+            for (Customer customer : customerRepository.findByIdInAndIsDeletedFalse(chunk)) {
+                customers.put(customer.getId(), customerResponseMapper.toResponse(customer));
+            }
+        }
+
+        log.debug("Resolved {} of {} customers, {} from the in-memory store",
+                customers.size(), ids.size(), ids.size() - misses.size());
+        return customers;
     }
 
     /**
@@ -174,8 +355,9 @@ public class CustomerService {
 
         Customer updatedCustomer = customerRepository.save(existingCustomer);
         log.info("Customer updated successfully with ID: {}", updatedCustomer.getId());
+        applyToSnapshotStoreAfterCommit(updatedCustomer);
         
-        return mapToResponseDto(updatedCustomer);
+        return customerResponseMapper.toResponse(updatedCustomer);
     }
 
     /**
@@ -192,7 +374,7 @@ public class CustomerService {
         Long customerId = customer.getId();
 
         customer.setIsDeleted(true);
-        customerRepository.save(customer);
+        applyToSnapshotStoreAfterCommit(customerRepository.save(customer));
         
         log.info("Customer deleted successfully with ID: {} - Name: {}", id, customerName);
         
@@ -246,23 +428,85 @@ public class CustomerService {
         }
     }
 
+    /**
+     * Gets customer metrics for the subset of active customers matching the filter, either scanning
+     * the in-memory columns or pushing the predicates down to a single SQL aggregate, whichever
+     * the planner estimates to be cheaper
+     */
+    @Transactional(readOnly = true)
+    public CustomerMetricsDto getCustomerMetrics(CustomerFilterDto filter) {
+        log.info("Calculating customer metrics with filter: {}", filter);
+
+        Timer.Sample timer = monitoringService.startMetricsCalculationTimer();
+
+        try {
+            CustomerMetricsPlanner.Plan plan = customerMetricsPlanner.plan(filter);
+            CustomerScanEngine.AgeHistogram histogram = plan == CustomerMetricsPlanner.Plan.IN_MEMORY
+                    ? customerScanEngine.scan(filter)
+                    : new CustomerScanEngine.AgeHistogram(customerRepository.getAgeHistogram(filter));
+            monitoringService.recordMetricsPlan(plan.name());
 
+            CustomerMetricsDto metrics = CustomerMetricsDto.builder()
+                    .totalCustomers(histogram.count())
+                    .averageAge(histogram.average() != null ? Math.round(histogram.average() * 100.0) / 100.0 : 0.0)
+                    .standardDeviation(histogram.standardDeviation() != null ? Math.round(histogram.standardDeviation() * 100.0) / 100.0 : 0.0)
+                    .minAge(histogram.min())
+                    .maxAge(histogram.max())
+                    .medianAge(histogram.median() != null ? Math.round(histogram.median() * 100.0) / 100.0 : 0.0)
+                    .build();
+
+            monitoringService.recordMetricsRequested();
+            return metrics;
+        } finally {
+            monitoringService.stopMetricsCalculationTimer(timer);
+        }
+    }
 
     /**
-     * Maps a Customer entity to CustomerResponseDto
+     * Counts the active customers matching the filter, from the bitmap indexes when the
+     * in-memory store is warm and with a single aggregate query otherwise
      */
-    private CustomerResponseDto mapToResponseDto(Customer customer) {
-        return CustomerResponseDto.builder()
-                .id(customer.getId())
-                .firstName(customer.getFirstName())
-                .lastName(customer.getLastName())
-                .fullName(customer.getFullName())
-                .age(customer.getAge())
-                .birthDate(customer.getBirthDate())
-                .estimatedLifeExpectancy(customer.calculateEstimatedLifeExpectancy())
-                .createdAt(customer.getCreatedAt())
-                .updatedAt(customer.getUpdatedAt())
-                .build();
+    @Transactional(readOnly = true)
+    public CustomerCountResponseDto countCustomers(CustomerFilterDto filter, boolean includeIds) {
+        log.info("Counting customers with filter: {}", filter);
+
+        Timer.Sample timer = monitoringService.startMetricsCalculationTimer();
+
+        try {
+            if (customerSnapshotStore.isReady()) {
+                CustomerBitmapIndex.Match match = customerBitmapIndex.match(filter, includeIds, maxMatchingIds);
+                return CustomerCountResponseDto.builder()
+                        .count(match.count())
+                        .customerIds(includeIds ? match.ids() : null)
+                        .idsTruncated(match.truncated())
+                        .source("BITMAP_INDEX")
+                        .build();
+            }
+
+            int minAge = filter.getMinAge() != null ? filter.getMinAge() : 0;
+            int maxAge = filter.getMaxAge() != null ? filter.getMaxAge() : 150;
+            List<Integer> birthMonths = filter.getBirthMonths() != null && !filter.getBirthMonths().isEmpty()
+                    ? filter.getBirthMonths()
+                    : List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+            int birthYearFrom = filter.getBirthYearFrom() != null ? filter.getBirthYearFrom() : 0;
+            int birthYearTo = filter.getBirthYearTo() != null ? filter.getBirthYearTo() : 9999;
+
+            long count = customerRepository.countFiltered(minAge, maxAge, birthMonths, birthYearFrom, birthYearTo);
+            List<Long> customerIds = null;
+            if (includeIds) {
+                customerIds = customerRepository.findIdsFiltered(minAge, maxAge, birthMonths, birthYearFrom, birthYearTo,
+                        PageRequest.of(0, Math.max(1, maxMatchingIds)));
+            }
+
+            return CustomerCountResponseDto.builder()
+                    .count(count)
+                    .customerIds(customerIds)
+                    .idsTruncated(customerIds != null && count > customerIds.size())
+                    .source("DATABASE")
+                    .build();
+        } finally {
+            monitoringService.stopMetricsCalculationTimer(timer);
+        }
     }
 
     /**
@@ -284,4 +528,29 @@ public class CustomerService {
             return (double) numbers.get(size / 2);
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Upserts or removes the customer in the in-memory store once the transaction commits, so
+     * reads served from the store do not return a row this instance has just changed or deleted.
+     * The entity is read after commit, when the flush has set its timestamps
+     */
+    private void applyToSnapshotStoreAfterCommit(Customer customer) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyToSnapshotStore(customer);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyToSnapshotStore(customer);
+            }
+        });
+    }
+
+    private void applyToSnapshotStore(Customer customer) {
+        // Until loaded the store is not read; the load or the next catch-up poll picks up the change
+        if (customerSnapshotStore.isReady()) {
+            customerSnapshotStore.applyCommitted(customer);
+        }
+    }
+}
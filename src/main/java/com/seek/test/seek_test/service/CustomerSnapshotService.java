@@ -0,0 +1,227 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.config.CustomerSnapshotProperties;
+import com.seek.test.seek_test.entity.Customer;
+import com.seek.test.seek_test.repository.CustomerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the active customers to a compact binary file on local disk and uses it
+ * on startup to warm {@link CustomerSnapshotStore} without a full table scan.
+ *
+ * File layout (big-endian): magic, version, watermark (epoch micros), row count,
+ * then per row: id, age, birth date (epoch day), created/updated (epoch micros),
+ * first name and last name (length-prefixed UTF-8).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "customer.snapshot", name = "enabled", havingValue = "true")
+public class CustomerSnapshotService {
+
+    static final int MAGIC = 0x53454B43; // "SEKC"
+    static final short VERSION = 1;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final CustomerRepository customerRepository;
+    private final CustomerSnapshotStore customerSnapshotStore;
+    private final CustomerSnapshotProperties properties;
+
+    /**
+     * Warms the store on startup: from the snapshot file when there is one, otherwise from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        Path path = Paths.get(properties.getPath());
+        boolean loaded = false;
+
+        if (Files.isRegularFile(path)) {
+            try {
+                loadSnapshot(path);
+                loaded = true;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Customer snapshot {} could not be read, falling back to a full load: {}", path, e.getMessage());
+            }
+        }
+
+        if (loaded) {
+            catchUp();
+            customerSnapshotStore.markReady();
+        } else {
+            fullLoad();
+            customerSnapshotStore.markReady();
+            writeSnapshot();
+        }
+
+        log.info("Customer snapshot store warm with {} customers in {} ms",
+                customerSnapshotStore.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * Applies the rows changed since the watermark, including logical deletes
+     */
+    @Scheduled(fixedDelayString = "${customer.snapshot.refresh-interval-ms:5000}",
+               initialDelayString = "${customer.snapshot.refresh-interval-ms:5000}")
+    public void catchUp() {
+        LocalDateTime watermark = customerSnapshotStore.getWatermark();
+        if (watermark == null) {
+            return;
+        }
+
+        // Overlap the window a little so rows committed late with an older updated_at are not missed
+        LocalDateTime since = watermark.minus(Duration.ofMillis(properties.getCatchUpOverlapMs()));
+        List<Customer> changed = customerRepository.findByUpdatedAtGreaterThanEqual(since);
+        changed.forEach(customerSnapshotStore::apply);
+
+        if (!changed.isEmpty()) {
+            log.debug("Customer snapshot store caught up {} changed rows since {}", changed.size(), since);
+        }
+    }
+
+    /**
+     * Writes the current content of the store to disk, replacing the previous snapshot atomically
+     */
+    @Scheduled(fixedDelayString = "${customer.snapshot.write-interval-ms:600000}",
+               initialDelayString = "${customer.snapshot.write-interval-ms:600000}")
+    public void writeSnapshot() {
+        if (!customerSnapshotStore.isReady()) {
+            return;
+        }
+
+        Path path = Paths.get(properties.getPath());
+        LocalDateTime watermark = customerSnapshotStore.getWatermark();
+        List<CustomerSnapshotStore.Entry> entries = new ArrayList<>(customerSnapshotStore.entries());
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(toEpochMicros(watermark));
+                out.writeInt(entries.size());
+                for (CustomerSnapshotStore.Entry entry : entries) {
+                    out.writeLong(entry.id());
+                    out.writeShort(entry.age());
+                    out.writeInt((int) entry.birthDate().toEpochDay());
+                    out.writeLong(toEpochMicros(entry.createdAt()));
+                    out.writeLong(toEpochMicros(entry.updatedAt()));
+                    writeString(out, entry.firstName());
+                    writeString(out, entry.lastName());
+                }
+            }
+
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Customer snapshot written to {} with {} customers, watermark: {}", path, entries.size(), watermark);
+        } catch (IOException e) {
+            log.error("Error writing customer snapshot to {}", path, e);
+        }
+    }
+
+    /**
+     * Memory-maps the snapshot file and loads it into the store
+     */
+    void loadSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a customer snapshot file");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported customer snapshot version: " + version);
+            }
+            LocalDateTime watermark = fromEpochMicros(buffer.getLong());
+            int count = buffer.getInt();
+
+            List<CustomerSnapshotStore.Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = buffer.getLong();
+                int age = buffer.getShort();
+                LocalDate birthDate = LocalDate.ofEpochDay(buffer.getInt());
+                LocalDateTime createdAt = fromEpochMicros(buffer.getLong());
+                LocalDateTime updatedAt = fromEpochMicros(buffer.getLong());
+                String firstName = readString(buffer);
+                String lastName = readString(buffer);
+                entries.add(new CustomerSnapshotStore.Entry(id, firstName, lastName, age, birthDate, createdAt, updatedAt));
+            }
+
+            customerSnapshotStore.replaceAll(entries, watermark);
+            log.info("Customer snapshot {} mapped ({} bytes, {} customers)", path, channel.size(), count);
+        }
+    }
+
+    /**
+     * Loads all the active customers from the database (cold start)
+     */
+    private void fullLoad() {
+        List<Customer> customers = customerRepository.findByIsDeletedFalse();
+        List<CustomerSnapshotStore.Entry> entries = new ArrayList<>(customers.size());
+        LocalDateTime watermark = null;
+        for (Customer customer : customers) {
+            entries.add(CustomerSnapshotStore.Entry.from(customer));
+            if (customer.getUpdatedAt() != null && (watermark == null || customer.getUpdatedAt().isAfter(watermark))) {
+                watermark = customer.getUpdatedAt();
+            }
+        }
+        customerSnapshotStore.replaceAll(entries, watermark != null ? watermark : LocalDateTime.now());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(MappedByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long toEpochMicros(LocalDateTime value) {
+        if (value == null) {
+            return NO_TIMESTAMP;
+        }
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        if (micros == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
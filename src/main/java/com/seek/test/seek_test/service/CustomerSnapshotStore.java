@@ -0,0 +1,158 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.entity.Customer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory copy of the active customers, warmed from the local snapshot file
+ * and kept current by catching up on rows changed since the watermark.
+ */
+@Component
+@Slf4j
+public class CustomerSnapshotStore {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile LocalDateTime watermark;
+    private volatile boolean ready = false;
+
+    /**
+     * Replaces the whole content of the store
+     */
+    public synchronized void replaceAll(Collection<Entry> newEntries, LocalDateTime newWatermark) {
+        entries.clear();
+        for (Entry entry : newEntries) {
+            entries.put(entry.id(), entry);
+        }
+        watermark = newWatermark;
+        listeners.forEach(listener -> listener.onReplaceAll(entries.values()));
+        log.info("Customer snapshot store loaded with {} customers, watermark: {}", entries.size(), newWatermark);
+    }
+
+    /**
+     * Applies a changed customer row: deleted customers are removed, the rest are upserted
+     */
+    public synchronized void apply(Customer customer) {
+        update(customer);
+        if (customer.getUpdatedAt() != null && (watermark == null || customer.getUpdatedAt().isAfter(watermark))) {
+            watermark = customer.getUpdatedAt();
+        }
+    }
+
+    /**
+     * Applies a customer written by this instance once its transaction has committed. The watermark
+     * is left to the catch-up poll, so rows committed meanwhile by other instances are not skipped
+     */
+    public synchronized void applyCommitted(Customer customer) {
+        update(customer);
+    }
+
+    private void update(Customer customer) {
+        if (Boolean.TRUE.equals(customer.getIsDeleted())) {
+            Entry removed = entries.remove(customer.getId());
+            if (removed != null) {
+                listeners.forEach(listener -> listener.onRemove(removed));
+            }
+            return;
+        }
+
+        Entry entry = Entry.from(customer);
+        Entry previous = entries.get(customer.getId());
+        // A poll that read the row before a local write committed must not undo it
+        if (previous != null && previous.updatedAt() != null && entry.updatedAt() != null
+                && entry.updatedAt().isBefore(previous.updatedAt())) {
+            return;
+        }
+        entries.put(customer.getId(), entry);
+        if (!entry.equals(previous)) {
+            listeners.forEach(listener -> listener.onUpsert(previous, entry));
+        }
+    }
+
+    /**
+     * Registers a listener that keeps a derived structure (index, columns) in sync with the store
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Gets an active customer by ID
+     */
+    public Optional<Entry> get(Long id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    /**
+     * Gets a read-only view of all the active customers
+     */
+    public Collection<Entry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public LocalDateTime getWatermark() {
+        return watermark;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    /**
+     * Change callbacks, invoked while the store is locked for writing
+     */
+    public interface Listener {
+
+        void onReplaceAll(Collection<Entry> entries);
+
+        void onUpsert(Entry previous, Entry current);
+
+        void onRemove(Entry removed);
+    }
+
+    /**
+     * Compact, immutable view of an active customer
+     */
+    public record Entry(
+            Long id,
+            String firstName,
+            String lastName,
+            int age,
+            LocalDate birthDate,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+
+        public static Entry from(Customer customer) {
+            return new Entry(
+                    customer.getId(),
+                    customer.getFirstName(),
+                    customer.getLastName(),
+                    customer.getAge(),
+                    customer.getBirthDate(),
+                    customer.getCreatedAt(),
+                    customer.getUpdatedAt()
+            );
+        }
+    }
+}
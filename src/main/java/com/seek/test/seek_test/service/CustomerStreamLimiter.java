@@ -0,0 +1,61 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.exception.CustomerStreamRejectedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps the NDJSON customer streams running at the same time. Each stream holds a task executor
+ * thread and a database connection until the client has read every row, so without a cap a few
+ * slow clients take the whole connection pool; streams over the limit are rejected up front.
+ */
+@Component
+public class CustomerStreamLimiter {
+
+    private final Semaphore permits;
+    private final long retryAfterSeconds;
+
+    public CustomerStreamLimiter(@Value("${customer.stream.max-concurrent:4}") int maxConcurrent,
+                                 @Value("${customer.stream.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Takes a permit for a new stream, to be given back with {@link Permit#release()} once it ends
+     *
+     * @throws CustomerStreamRejectedException when the maximum of concurrent streams is reached
+     */
+    public Permit acquire() {
+        if (!permits.tryAcquire()) {
+            throw new CustomerStreamRejectedException("Too many concurrent customer streams, please retry later",
+                    retryAfterSeconds);
+        }
+        return new Permit();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Permit of one stream. A stream can end in several places (its body, the async timeout or
+     * completion of the request), so only the first release gives the permit back
+     */
+    public final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.seek.test.seek_test.service;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API scan for {@link CustomerScanEngine}: the age and birth-date range predicates are
+ * compared for a whole vector of rows at a time. The ages of the rows outside the mask are
+ * blended into a bucket past the histogram, so every lane is counted without a branch; the
+ * created-at range is folded into that bucket index per lane, since converting a mask of longs
+ * to the int lanes was measured to cost more than the vector comparison saves. With a last-name
+ * prefix only the rows left in the mask are checked against it.
+ *
+ * Only loaded when jdk.incubator.vector is in the boot layer; the tail that does not fill a
+ * vector goes through the scalar loop.
+ */
+final class CustomerVectorScan {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    private CustomerVectorScan() {
+    }
+
+    static void scanRange(CustomerColumnStore.Columns columns, int from, int to,
+                          CustomerScanEngine.Predicate predicate, long[] histogram) {
+        int[] ages = columns.ages();
+        int[] birthEpochDays = columns.birthEpochDays();
+        long[] createdEpochSeconds = columns.createdEpochSeconds();
+        String[] lastNames = columns.lastNames();
+        int minAge = predicate.minAge();
+        int maxAge = predicate.maxAge();
+        int fromDay = predicate.fromEpochDay();
+        int toDay = predicate.toEpochDay();
+        long createdFrom = predicate.createdFromEpochSecond();
+        long createdTo = predicate.createdToEpochSecond();
+        boolean hasCreatedRange = predicate.hasCreatedRange();
+        String prefix = predicate.lastNamePrefix();
+
+        int lanes = INTS.length();
+        int[] buckets = new int[lanes];
+        // Rows that do not match are counted in buckets past the ages, which are dropped
+        long[] counts = new long[CustomerScanEngine.HISTOGRAM_SIZE * 2];
+        int upper = from + INTS.loopBound(to - from);
+        for (int i = from; i < upper; i += lanes) {
+            IntVector age = IntVector.fromArray(INTS, ages, i);
+            IntVector day = IntVector.fromArray(INTS, birthEpochDays, i);
+            VectorMask<Integer> match = age.compare(VectorOperators.GE, minAge)
+                    .and(age.compare(VectorOperators.LE, maxAge))
+                    .and(day.compare(VectorOperators.GE, fromDay))
+                    .and(day.compare(VectorOperators.LE, toDay));
+
+            if (prefix != null) {
+                long rows = match.toLong();
+                while (rows != 0) {
+                    int row = i + Long.numberOfTrailingZeros(rows);
+                    long created = createdEpochSeconds[row];
+                    if (created >= createdFrom && created <= createdTo
+                            && CustomerScanEngine.hasLastNamePrefix(lastNames[row], prefix)) {
+                        counts[ages[row] & 0xFF]++;
+                    }
+                    rows &= rows - 1;
+                }
+                continue;
+            }
+
+            age.and(0xFF).blend(CustomerScanEngine.HISTOGRAM_SIZE, match.not()).intoArray(buckets, 0);
+            if (hasCreatedRange) {
+                // Rows created outside the range move past the ages too (bit 8 set)
+                for (int lane = 0; lane < lanes; lane++) {
+                    long created = createdEpochSeconds[i + lane];
+                    int outside = (int) (((created - createdFrom) | (createdTo - created)) >>> 63);
+                    counts[buckets[lane] | (outside << 8)]++;
+                }
+            } else {
+                for (int lane = 0; lane < lanes; lane++) {
+                    counts[buckets[lane]]++;
+                }
+            }
+        }
+        for (int age = 0; age < CustomerScanEngine.HISTOGRAM_SIZE; age++) {
+            histogram[age] += counts[age];
+        }
+
+        CustomerScanEngine.scalarScanRange(columns, upper, to, predicate, histogram);
+    }
+}
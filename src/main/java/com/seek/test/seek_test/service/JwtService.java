@@ -1,27 +1,36 @@
 package com.seek.test.seek_test.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
+    public static final String ROLES_CLAIM = "roles";
+    public static final String CREDENTIAL_EPOCH_CLAIM = "cep";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    // Built once from the secret; the key and parser are immutable and thread-safe
+    private volatile SecretKey signInKey;
+    private volatile JwtParser parser;
+
     public String extractUsername(String token) {
         try {
             return extractClaim(token, Claims::getSubject);
@@ -30,6 +39,16 @@ public class JwtService {
         }
     }
 
+    /**
+     * Verifies the signature and expiration of the token and returns its claims
+     * @param token the signed token
+     * @return the claims of the token
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, forged or expired
+     */
+    public Claims parseToken(String token) {
+        return extractAllClaims(token);
+    }
+
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
@@ -39,6 +58,17 @@ public class JwtService {
         return generateToken(new HashMap<>(), username);
     }
 
+    /**
+     * Generates a token carrying the roles and the credential epoch of the user, so that
+     * requests can be authenticated from the token alone
+     */
+    public String generateToken(String username, Collection<String> roles, long credentialEpoch) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLES_CLAIM, List.copyOf(roles));
+        claims.put(CREDENTIAL_EPOCH_CLAIM, credentialEpoch);
+        return generateToken(claims, username);
+    }
+
     public String generateToken(Map<String, Object> extraClaims, String username) {
         return Jwts.builder()
                 .claims(extraClaims)
@@ -49,51 +79,46 @@ public class JwtService {
                 .compact();
     }
 
-    // public String generateToken(Map<String, Object> extraClaims, String username) {
-    //     return Jwts.builder()
-    //             .setClaims(extraClaims)
-    //             .setSubject(username)
-    //             .setIssuedAt(new Date(System.currentTimeMillis()))
-    //             .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
-    //             .signWith(getSignInKey(), SignatureAlgorithm.HS256)
-    //             .compact();
-    // }
+    /**
+     * Lifetime of the access tokens, in milliseconds
+     */
+    public long getExpiration() {
+        return jwtExpiration;
+    }
 
     public boolean isTokenValid(String token, String username) {
         try {
-            final String tokenUsername = extractUsername(token);
-            return (username.equals(tokenUsername)) && !isTokenExpired(token);
+            // Single verification: the claims carry both the subject and the expiration
+            final Claims claims = extractAllClaims(token);
+            return (username.equals(claims.getSubject())) && !claims.getExpiration().before(new Date());
         } catch (Exception e) {
             return false;
         }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignInKey()) // <-- CAMBIO CLAVE AQUÍ: Usar .verifyWith()
-                .build()
-                .parseSignedClaims(token) // <-- CAMBIO CLAVE AQUÍ: Usar .parseSignedClaims()
+        return getParser()
+                .parseSignedClaims(token)
                 .getPayload();
     }
 
-    // private Claims extractAllClaims(String token) {
-    //     return Jwts.parser()
-    //             .setSigningKey(getSignInKey())
-    //             .build()
-    //             .parseClaimsJws(token)
-    //             .getBody();
-    // }
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parser()
+                    .verifyWith(getSignInKey())
+                    .build();
+            parser = current;
+        }
+        return current;
+    }
 
     private SecretKey getSignInKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+        SecretKey current = signInKey;
+        if (current == null) {
+            current = Keys.hmacShaKeyFor(secretKey.getBytes());
+            signInKey = current;
+        }
+        return current;
     }
 } 
\ No newline at end of file
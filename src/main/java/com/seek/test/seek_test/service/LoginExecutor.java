@@ -0,0 +1,124 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.config.LoginExecutorProperties;
+import com.seek.test.seek_test.exception.LoginRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password verification (BCrypt) on a small pool sized to the cores, so a login storm
+ * cannot take over the Tomcat threads that serve the rest of the API. Logins beyond the
+ * queue capacity are rejected immediately instead of piling up.
+ */
+@Service
+public class LoginExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final LoginExecutorProperties properties;
+
+    private final Timer queueWaitTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+
+    public LoginExecutor(LoginExecutorProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new LoginThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWaitTimer = Timer.builder("auth.login.queue.wait")
+                .description("Time a login waits for a password verification thread")
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("auth.login.execution.time")
+                .description("Time taken to verify the credentials of a login")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.login.rejected")
+                .description("Number of logins rejected because the login executor was saturated")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.queue.size", executor, e -> e.getQueue().size())
+                .description("Logins waiting for a password verification thread")
+                .register(meterRegistry);
+
+        log.info("Login executor started with {} threads and a queue of {}", threads, properties.getQueueCapacity());
+    }
+
+    /**
+     * Runs the authentication on the login executor and waits for its result
+     * @param authentication the authentication to run (typically AuthenticationManager#authenticate)
+     * @return the result of the authentication
+     * @throws LoginRejectedException if the executor is saturated or the result does not arrive in time
+     */
+    public <T> T execute(Supplier<T> authentication) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return executionTimer.record(authentication);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new LoginRejectedException("Too many concurrent logins, please retry later",
+                    properties.getRetryAfterSeconds(), e);
+        }
+
+        try {
+            return future.get(properties.getTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginRejectedException("Login timed out, please retry later",
+                    properties.getRetryAfterSeconds(), e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginRejectedException("Login interrupted", properties.getRetryAfterSeconds(), e);
+        } catch (ExecutionException e) {
+            // Propagate authentication failures (bad credentials, disabled user) unchanged
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Login failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static final class LoginThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "login-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -133,6 +133,17 @@ public class MonitoringService {
         log.info("Custom metric recorded: {} = {}", metricName, value);
     }
 
+    /**
+     * Records the execution path chosen for a filtered metrics request
+     */
+    public void recordMetricsPlan(String path) {
+        Counter.builder("customer.metrics.plan")
+                .tag("path", path)
+                .description("Number of filtered metrics requests by execution path")
+                .register(meterRegistry)
+                .increment();
+    }
+
     /**
      * Records error occurrence
      */
@@ -0,0 +1,116 @@
+package com.seek.test.seek_test.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.seek.test.seek_test.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Resolves the limit that applies to a request and takes a token from its bucket.
+ * Buckets are keyed by rule and by principal or client IP, and live in a bounded map
+ * that drops the buckets left idle.
+ */
+@Service
+public class RateLimiter {
+
+    private static final String DEFAULT_RULE = "default";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<CompiledRule> rules;
+    private final List<PathPattern> excludedPaths;
+    private final CompiledRule defaultRule;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(
+                        rule.getName() != null ? rule.getName() : rule.getPathPattern(),
+                        parser.parse(rule.getPathPattern()),
+                        rule.getMethod(),
+                        rule.getKeyBy(),
+                        rule.getCapacity(),
+                        rule.getRefillPerSecond(),
+                        rejectedCounter(rule.getName() != null ? rule.getName() : rule.getPathPattern())))
+                .toList();
+        this.excludedPaths = properties.getExcludedPaths().stream().map(parser::parse).toList();
+        this.defaultRule = new CompiledRule(DEFAULT_RULE, null, null, RateLimitProperties.KeyBy.PRINCIPAL,
+                properties.getDefaultCapacity(), properties.getDefaultRefillPerSecond(), rejectedCounter(DEFAULT_RULE));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofMillis(properties.getIdleExpiryMs()))
+                .build();
+    }
+
+    /**
+     * Takes a token for the request
+     * @param method    the HTTP method
+     * @param path      the request path, without the query string
+     * @param principal the authenticated subject, or null for anonymous requests
+     * @param clientIp  the client address
+     * @return the outcome, or null when the path is not rate limited
+     */
+    public Decision tryConsume(String method, String path, String principal, String clientIp) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (PathPattern excluded : excludedPaths) {
+            if (excluded.matches(pathContainer)) {
+                return null;
+            }
+        }
+
+        CompiledRule rule = resolveRule(method, pathContainer);
+        String subject = rule.keyBy() == RateLimitProperties.KeyBy.PRINCIPAL && principal != null
+                ? "user:" + principal
+                : "ip:" + clientIp;
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(rule.name() + '|' + subject,
+                key -> new TokenBucket(rule.capacity(), rule.refillPerSecond(), now));
+
+        TokenBucket.Result result = bucket.tryConsume(now);
+        if (!result.allowed()) {
+            rule.rejectedCounter().increment();
+        }
+        return new Decision(rule.name(), result);
+    }
+
+    private CompiledRule resolveRule(String method, PathContainer path) {
+        for (CompiledRule rule : rules) {
+            if ((rule.method() == null || rule.method().equalsIgnoreCase(method)) && rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return defaultRule;
+    }
+
+    private Counter rejectedCounter(String rule) {
+        return Counter.builder("http.rate_limit.rejected")
+                .tag("rule", rule)
+                .description("Number of requests rejected by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Outcome of a rate-limited request
+     */
+    public record Decision(String rule, TokenBucket.Result result) {
+    }
+
+    private record CompiledRule(String name, PathPattern pattern, String method, RateLimitProperties.KeyBy keyBy,
+                                long capacity, double refillPerSecond, Counter rejectedCounter) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.entity.RefreshToken;
+import com.seek.test.seek_test.entity.User;
+import com.seek.test.seek_test.exception.InvalidRefreshTokenException;
+import com.seek.test.seek_test.repository.RefreshTokenRepository;
+import com.seek.test.seek_test.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens, so clients renew their short-lived access token
+ * with a single indexed lookup instead of a password (BCrypt) login.
+ *
+ * Every refresh consumes the presented token and returns a new one of the same family.
+ * Presenting a token that was already consumed means it leaked, so the whole family is revoked.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration:1209600000}")
+    private long refreshExpiration;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, UserRepository userRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Issue the first refresh token of a new family after a password login
+     * @param username the authenticated username
+     * @return the opaque refresh token
+     */
+    @Transactional
+    public String issue(String username) {
+        User user = userRepository.findByUsernameAndIsActiveTrue(username)
+                .orElseThrow(() -> new InvalidRefreshTokenException("User not found or inactive: " + username));
+        return create(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Consume a refresh token and issue its replacement
+     * @param rawToken the refresh token presented by the client
+     * @return the user and the new refresh token
+     * @throws InvalidRefreshTokenException if the token is unknown, expired, reused or the user changed credentials
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Invalid refresh token"));
+
+        // The conditional update makes concurrent refreshes with the same token consume it only once
+        if (Boolean.TRUE.equals(token.getRevoked()) || refreshTokenRepository.consume(token.getId()) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId());
+            log.warn("Refresh token reuse detected for user '{}', revoked {} tokens of its family",
+                    token.getUser().getUsername(), revoked);
+            throw new InvalidRefreshTokenException("Refresh token was already used");
+        }
+
+        if (token.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException("Refresh token expired");
+        }
+
+        User user = token.getUser();
+        long currentEpoch = user.getCredentialEpoch() != null ? user.getCredentialEpoch() : 0L;
+        if (!Boolean.TRUE.equals(user.getIsActive()) || token.getCredentialEpoch() != currentEpoch) {
+            // Password changed or user deactivated since the login: the family is no longer valid
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token revoked");
+        }
+
+        return new Rotation(user, create(user, token.getFamilyId()));
+    }
+
+    /**
+     * Delete the expired tokens
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-cleanup-interval-ms:3600000}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    /**
+     * Lifetime of the refresh tokens, in milliseconds
+     */
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    private String create(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(
+                user,
+                hash(rawToken),
+                familyId,
+                user.getCredentialEpoch() != null ? user.getCredentialEpoch() : 0L,
+                LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000)));
+        return rawToken;
+    }
+
+    static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Result of a refresh: the user and the refresh token that replaces the consumed one
+     */
+    public record Rotation(User user, String refreshToken) {
+    }
+}
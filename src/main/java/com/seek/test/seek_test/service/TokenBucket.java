@@ -0,0 +1,61 @@
+package com.seek.test.seek_test.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. The state is a single timestamp, the instant at which the bucket
+ * would be full again (the "theoretical arrival time" of GCRA), so taking a token is one
+ * compare-and-set with no lock and no allocation.
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = Math.max(1L, Math.round(1_000_000_000L / refillPerSecond));
+        this.burstNanos = capacity * nanosPerToken;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if available
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the outcome, with the remaining tokens and the wait until the next token
+     */
+    public Result tryConsume(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + nanosPerToken;
+            long debt = next - nowNanos;
+            if (debt > burstNanos) {
+                return new Result(false, capacity, 0, debt - burstNanos, current - nowNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Result(true, capacity, (burstNanos - debt) / nanosPerToken, 0, debt);
+            }
+        }
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Outcome of a consume attempt
+     *
+     * @param allowed          whether a token was taken
+     * @param limit            capacity of the bucket
+     * @param remaining        tokens left after this request
+     * @param retryAfterNanos  wait until a token is available (0 when allowed)
+     * @param resetAfterNanos  wait until the bucket is full again
+     */
+    public record Result(boolean allowed, long limit, long remaining, long retryAfterNanos, long resetAfterNanos) {
+    }
+}
@@ -0,0 +1,167 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.BulkUserActionRequestDto;
+import com.seek.test.seek_test.dto.BulkUserActionResponseDto;
+import com.seek.test.seek_test.dto.UserFilterDto;
+import com.seek.test.seek_test.entity.User;
+import com.seek.test.seek_test.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Activates, deactivates or deletes many users with set-based UPDATE/DELETE statements,
+ * one transaction per chunk of IDs so locks and undo logs stay small.
+ *
+ * The users of each chunk are read inside its transaction to know their usernames and
+ * epochs; once the chunk commits, a single {@link UserCredentialsBatchChangedEvent} revokes
+ * their tokens and cached principals. Other instances pick the change up by polling.
+ */
+@Service
+public class UserBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserBulkService.class);
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public UserBulkService(UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${user.bulk.chunk-size:1000}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Apply an action to the users selected by IDs or by a filter
+     * @param action the action to apply
+     * @param request the user IDs or the filter (exactly one of them)
+     * @return the number of users whose state changed
+     */
+    public BulkUserActionResponseDto apply(Action action, BulkUserActionRequestDto request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == request.hasFilter()) {
+            throw new IllegalArgumentException("Either user IDs or a filter (active, usernamePrefix, createdFrom, createdTo) is required");
+        }
+
+        long startedAt = System.nanoTime();
+        long affected = 0;
+        int chunks = 0;
+
+        if (byIds) {
+            List<Long> ids = request.getIds().stream().distinct().toList();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunkIds = ids.subList(from, Math.min(ids.size(), from + chunkSize));
+                affected += applyChunk(action, () -> userRepository.findAllById(chunkIds)).affected();
+                chunks++;
+            }
+        } else {
+            UserFilterDto filter = request.toFilter();
+            Long after = null;
+            while (true) {
+                Long cursor = after;
+                ChunkResult result = applyChunk(action, () -> userRepository.findFilteredAfter(filter, cursor, chunkSize));
+                if (result.loaded() == 0) {
+                    break;
+                }
+                affected += result.affected();
+                chunks++;
+                if (result.loaded() < chunkSize) {
+                    break;
+                }
+                after = result.lastId();
+            }
+        }
+
+        log.info("Bulk {} affected {} users in {} chunks ({} ms)", action, affected, chunks,
+                (System.nanoTime() - startedAt) / 1_000_000);
+
+        return BulkUserActionResponseDto.builder()
+                .message(affected + " users " + action.getPastTense().toLowerCase() + " successfully")
+                .action(action.getPastTense())
+                .affectedUsers(affected)
+                .chunks(chunks)
+                .performedAt(LocalDateTime.now())
+                .status("SUCCESS")
+                .build();
+    }
+
+    private ChunkResult applyChunk(Action action, Supplier<List<User>> loader) {
+        ChunkResult result = transactionTemplate.execute(status -> {
+            List<User> users = loader.get();
+            if (users.isEmpty()) {
+                return new ChunkResult(0, 0, null, List.of());
+            }
+
+            List<Long> ids = new ArrayList<>(users.size());
+            List<UserCredentialsChangedEvent> changes = new ArrayList<>();
+            for (User user : users) {
+                ids.add(user.getId());
+                long epoch = user.getCredentialEpoch() != null ? user.getCredentialEpoch() : 0L;
+                boolean active = Boolean.TRUE.equals(user.getIsActive());
+                switch (action) {
+                    case ACTIVATE -> {
+                        if (!active) {
+                            changes.add(new UserCredentialsChangedEvent(user.getUsername(), epoch, true));
+                        }
+                    }
+                    case DEACTIVATE -> {
+                        if (active) {
+                            changes.add(new UserCredentialsChangedEvent(user.getUsername(), epoch + 1, false));
+                        }
+                    }
+                    case DELETE -> changes.add(new UserCredentialsChangedEvent(user.getUsername(), epoch + 1, false));
+                }
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            int affected = switch (action) {
+                case ACTIVATE -> userRepository.activateByIds(ids, now);
+                case DEACTIVATE -> userRepository.deactivateByIds(ids, now);
+                case DELETE -> userRepository.deleteByIds(ids);
+            };
+            return new ChunkResult(users.size(), affected, ids.get(ids.size() - 1), changes);
+        });
+
+        // Published after the commit, so no instance revokes tokens for a change that rolled back
+        if (!result.changes().isEmpty()) {
+            eventPublisher.publishEvent(new UserCredentialsBatchChangedEvent(result.changes()));
+        }
+        return result;
+    }
+
+    /**
+     * Bulk actions on users
+     */
+    public enum Action {
+        ACTIVATE("ACTIVATED"),
+        DEACTIVATE("DEACTIVATED"),
+        DELETE("DELETED");
+
+        private final String pastTense;
+
+        Action(String pastTense) {
+            this.pastTense = pastTense;
+        }
+
+        public String getPastTense() {
+            return pastTense;
+        }
+    }
+
+    private record ChunkResult(int loaded, int affected, Long lastId, List<UserCredentialsChangedEvent> changes) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.seek.test.seek_test.service;
+
+import java.util.List;
+
+/**
+ * Credential changes of many users at once (bulk administration, or several remote changes
+ * picked up in one refresh), so listeners invalidate their caches in a single pass
+ * instead of one pass per user.
+ *
+ * @param changes the change of every affected user
+ */
+public record UserCredentialsBatchChangedEvent(List<UserCredentialsChangedEvent> changes) {
+}
@@ -0,0 +1,12 @@
+package com.seek.test.seek_test.service;
+
+/**
+ * Published when a change to a user invalidates the tokens issued before it
+ * (password change, deactivation or deletion).
+ *
+ * @param username        the affected username
+ * @param credentialEpoch the new credential epoch of the user
+ * @param active          whether the user can still authenticate
+ */
+public record UserCredentialsChangedEvent(String username, long credentialEpoch, boolean active) {
+}
@@ -1,12 +1,17 @@
 package com.seek.test.seek_test.service;
 
 import com.seek.test.seek_test.dto.UserCreateResponseDto;
+import com.seek.test.seek_test.dto.UserFilterDto;
+import com.seek.test.seek_test.dto.UserPageResponseDto;
 import com.seek.test.seek_test.dto.UserResponseDto;
 import com.seek.test.seek_test.dto.UserActionResponseDto;
 import com.seek.test.seek_test.dto.PasswordChangeRequestDto;
 import com.seek.test.seek_test.entity.User;
 import com.seek.test.seek_test.exception.PasswordValidationException;
 import com.seek.test.seek_test.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -19,10 +24,13 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -60,24 +68,57 @@ public class UserService {
 
 
     /**
-     * Find all users (active and inactive)
-     * @return list of all users with safe information
+     * Find a page of users matching the filter, ordered by ID
+     * @param filter the optional active status, username prefix and creation range
+     * @param page the page number (1-based); null, 0 or negative means page 1
+     * @param size the page size (1-100); defaults to 10
+     * @return the page of users with safe information
      */
-    public List<UserResponseDto> findAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::mapToResponseDto)
-                .toList();
+    public UserPageResponseDto findUsers(UserFilterDto filter, Integer page, Integer size) {
+        int validSize = validPageSize(size);
+        int zeroBasedPage = (page == null || page <= 0) ? 0 : page - 1;
+
+        Page<User> userPage = userRepository.findFiltered(filter, PageRequest.of(zeroBasedPage, validSize));
+
+        return UserPageResponseDto.builder()
+                .content(userPage.getContent().stream().map(this::mapToResponseDto).toList())
+                .pageNumber(userPage.getNumber() + 1) // Convert back to 1-based for response
+                .pageSize(userPage.getSize())
+                .totalElements(userPage.getTotalElements())
+                .totalPages(userPage.getTotalPages())
+                .hasNext(userPage.hasNext())
+                .hasPrevious(userPage.hasPrevious())
+                .build();
     }
 
     /**
-     * Find all active users only
-     * @return list of active users with safe information
+     * Find the users matching the filter after the given cursor (keyset pagination), ordered by ID.
+     * No count query is run and deep pages cost the same as the first one.
+     * @param filter the optional active status, username prefix and creation range
+     * @param after the nextCursor of the previous page, or null for the first page
+     * @param size the page size (1-100); defaults to 10
+     * @return the page of users and the cursor of the next page
      */
-    public List<UserResponseDto> findAllActiveUsers() {
-        return userRepository.findAll().stream()
-                .filter(User::getIsActive)
-                .map(this::mapToResponseDto)
-                .toList();
+    public UserPageResponseDto scrollUsers(UserFilterDto filter, Long after, Integer size) {
+        int validSize = validPageSize(size);
+
+        // One extra row tells whether there is a next page
+        List<User> users = userRepository.findFilteredAfter(filter, after, validSize + 1);
+        boolean hasNext = users.size() > validSize;
+        List<User> pageUsers = hasNext ? users.subList(0, validSize) : users;
+
+        return UserPageResponseDto.builder()
+                .content(pageUsers.stream().map(this::mapToResponseDto).toList())
+                .pageSize(validSize)
+                .hasNext(hasNext)
+                // The cursor comes from an earlier page
+                .hasPrevious(after != null)
+                .nextCursor(hasNext ? pageUsers.get(pageUsers.size() - 1).getId() : null)
+                .build();
+    }
+
+    private static int validPageSize(Integer size) {
+        return (size != null && size > 0 && size <= 100) ? size : 10;
     }
 
     /**
@@ -118,9 +159,11 @@ public class UserService {
             throw new PasswordValidationException("Current password is incorrect");
         }
         
-        // Update password
+        // Update password and invalidate the tokens issued with the previous one
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.setCredentialEpoch(nextCredentialEpoch(user));
         User savedUser = userRepository.save(user);
+        publishCredentialsChanged(savedUser);
         
         return UserActionResponseDto.builder()
                 .message("Password updated successfully for user '" + savedUser.getUsername() + "'")
@@ -142,7 +185,9 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + id));
         
         user.setIsActive(false);
+        user.setCredentialEpoch(nextCredentialEpoch(user));
         User savedUser = userRepository.save(user);
+        publishCredentialsChanged(savedUser);
         
         return UserActionResponseDto.builder()
                 .message("User '" + savedUser.getUsername() + "' deactivated successfully")
@@ -165,6 +210,7 @@ public class UserService {
         
         user.setIsActive(true);
         User savedUser = userRepository.save(user);
+        publishCredentialsChanged(savedUser);
         
         return UserActionResponseDto.builder()
                 .message("User '" + savedUser.getUsername() + "' activated successfully")
@@ -187,6 +233,7 @@ public class UserService {
         
         String username = user.getUsername();
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(username, nextCredentialEpoch(user), false));
         
         return UserActionResponseDto.builder()
                 .message("User '" + username + "' deleted successfully")
@@ -197,4 +244,21 @@ public class UserService {
                 .status("SUCCESS")
                 .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * Next credential epoch of the user; tokens carrying an older epoch are rejected
+     */
+    private long nextCredentialEpoch(User user) {
+        return (user.getCredentialEpoch() != null ? user.getCredentialEpoch() : 0L) + 1;
+    }
+
+    /**
+     * Notifies the listeners (token epoch registry) that the credentials of the user changed
+     */
+    private void publishCredentialsChanged(User user) {
+        eventPublisher.publishEvent(new UserCredentialsChangedEvent(
+                user.getUsername(),
+                user.getCredentialEpoch() != null ? user.getCredentialEpoch() : 0L,
+                Boolean.TRUE.equals(user.getIsActive())));
+    }
+}
\ No newline at end of file
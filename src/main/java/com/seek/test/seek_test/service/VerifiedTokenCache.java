@@ -0,0 +1,118 @@
+package com.seek.test.seek_test.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded cache of already verified tokens, keyed by the SHA-256 digest of the whole token
+ * so that a hit skips the HMAC verification and the claims parsing. Entries expire together
+ * with the token and are dropped when the credentials of their user change.
+ */
+@Service
+public class VerifiedTokenCache {
+
+    private final Cache<String, VerifiedToken> cache;
+    private final boolean enabled;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.token-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.token-cache.max-size:10000}") long maxSize) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    /**
+     * Gets the verified principal of a token seen before, if it has not expired
+     */
+    public Optional<VerifiedToken> get(String token) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(digest(token)));
+    }
+
+    /**
+     * Remembers a token whose signature and expiration were just verified
+     */
+    public void put(String token, VerifiedToken verifiedToken) {
+        if (enabled && verifiedToken.expiresAt().isAfter(Instant.now())) {
+            cache.put(digest(token), verifiedToken);
+        }
+    }
+
+    @EventListener
+    public void onCredentialsChanged(UserCredentialsChangedEvent event) {
+        cache.asMap().values().removeIf(verifiedToken -> verifiedToken.username().equals(event.username()));
+    }
+
+    @EventListener
+    public void onCredentialsChanged(UserCredentialsBatchChangedEvent event) {
+        Set<String> usernames = event.changes().stream()
+                .map(UserCredentialsChangedEvent::username)
+                .collect(Collectors.toSet());
+        cache.asMap().values().removeIf(verifiedToken -> usernames.contains(verifiedToken.username()));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Principal extracted from a verified token
+     */
+    public record VerifiedToken(String username, List<String> roles, long credentialEpoch, Instant expiresAt) {
+    }
+
+    /**
+     * Keeps every entry exactly until the expiration of its token
+     */
+    private static final class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long millis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
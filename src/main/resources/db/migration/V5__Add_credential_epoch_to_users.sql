@@ -0,0 +1,5 @@
+-- Credential epoch embedded in the JWT; bumped on password change and deactivation
+ALTER TABLE users ADD COLUMN credential_epoch BIGINT NOT NULL DEFAULT 0;
+
+-- Index used to poll the users changed since the last refresh
+CREATE INDEX idx_users_updated_at ON users(updated_at);
@@ -0,0 +1,4 @@
+-- Indexes for the filtered user listings. The username prefix uses the unique username index, and
+-- idx_users_active already ends with the primary key in InnoDB, so active listings are read in ID order.
+CREATE INDEX idx_users_created_at ON users(created_at);
+CREATE INDEX idx_users_active_created_at ON users(is_active, created_at);
@@ -0,0 +1,3 @@
+-- Index for the snapshot catch-up poll, which reads the customers changed since its last run
+-- (updated_at >= ?) every few seconds and would otherwise scan the whole table.
+CREATE INDEX idx_customers_updated_at ON customers(updated_at);
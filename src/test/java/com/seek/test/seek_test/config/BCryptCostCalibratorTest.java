@@ -0,0 +1,51 @@
+package com.seek.test.seek_test.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BCryptCostCalibratorTest {
+
+    @Test
+    void calibrate_DoublesCostUntilBudgetIsReached() {
+        // Given: 20 ms at cost 10, so 40 ms at 11, 80 ms at 12, 160 ms at 13 and 320 ms at 14
+
+        // When
+        int strength = BCryptCostCalibrator.calibrate(250, 10, 14, cost -> 20_000_000L);
+
+        // Then
+        assertEquals(13, strength);
+    }
+
+    @Test
+    void calibrate_SlowHardware_KeepsMinimumStrength() {
+        // When
+        int strength = BCryptCostCalibrator.calibrate(250, 10, 14, cost -> 400_000_000L);
+
+        // Then
+        assertEquals(10, strength);
+    }
+
+    @Test
+    void calibrate_FastHardware_CapsAtMaximumStrength() {
+        // When
+        int strength = BCryptCostCalibrator.calibrate(250, 10, 14, cost -> 1_000_000L);
+
+        // Then
+        assertEquals(14, strength);
+    }
+
+    @Test
+    void calibrate_UsesFastestSample() {
+        // Given: a first slow sample (cold JIT) followed by faster ones
+        long[] samples = {200_000_000L, 30_000_000L, 60_000_000L};
+        int[] call = {0};
+
+        // When
+        int strength = BCryptCostCalibrator.calibrate(250, 10, 14, cost -> samples[call[0]++]);
+
+        // Then
+        assertEquals(3, call[0]);
+        assertEquals(13, strength);
+    }
+}
@@ -0,0 +1,54 @@
+package com.seek.test.seek_test.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFormatConfigTest {
+
+    private final CustomerResponseDto customer = CustomerResponseDto.builder()
+            .id(1L)
+            .firstName("John")
+            .lastName("Doe")
+            .fullName("John Doe")
+            .age(30)
+            .birthDate(LocalDate.of(1993, 1, 15))
+            .estimatedLifeExpectancy(LocalDate.of(2063, 1, 15))
+            .createdAt(LocalDateTime.of(2025, 1, 3, 10, 0, 0))
+            .updatedAt(LocalDateTime.of(2025, 1, 3, 10, 0, 0))
+            .build();
+
+    @Test
+    void cborMapper_RoundTripsCustomerInFewerBytesThanJson() throws Exception {
+        // Given
+        ObjectMapper cbor = BinaryFormatConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+
+        // When
+        byte[] bytes = cbor.writeValueAsBytes(customer);
+
+        // Then
+        assertEquals(customer, cbor.readValue(bytes, CustomerResponseDto.class));
+        assertTrue(bytes.length < json.writeValueAsBytes(customer).length);
+    }
+
+    @Test
+    void smileMapper_RoundTripsCustomer() throws Exception {
+        // Given
+        ObjectMapper smile = BinaryFormatConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new SmileFactory());
+
+        // When
+        byte[] bytes = smile.writeValueAsBytes(customer);
+
+        // Then
+        assertEquals(customer, smile.readValue(bytes, CustomerResponseDto.class));
+    }
+}
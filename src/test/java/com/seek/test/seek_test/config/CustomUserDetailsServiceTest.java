@@ -0,0 +1,84 @@
+package com.seek.test.seek_test.config;
+
+import com.seek.test.seek_test.entity.User;
+import com.seek.test.seek_test.repository.UserRepository;
+import com.seek.test.seek_test.service.UserCredentialsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CustomUserDetailsService userDetailsService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = new CustomUserDetailsService(userRepository, new SimpleMeterRegistry(), 60_000L, 100L);
+        testUser = new User("john", "$2a$10$encoded.password.hash");
+        testUser.setCredentialEpoch(2L);
+    }
+
+    @Test
+    void loadUserByUsername_SecondCall_IsServedFromCache() {
+        // Given
+        when(userRepository.findByUsernameAndIsActiveTrue("john")).thenReturn(Optional.of(testUser));
+
+        // When
+        UserDetails first = userDetailsService.loadUserByUsername("john");
+        ((AuthenticatedUser) first).eraseCredentials();
+        UserDetails second = userDetailsService.loadUserByUsername("john");
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals("$2a$10$encoded.password.hash", second.getPassword());
+        assertEquals(2L, ((AuthenticatedUser) second).getCredentialEpoch());
+        verify(userRepository, times(1)).findByUsernameAndIsActiveTrue("john");
+    }
+
+    @Test
+    void onCredentialsChanged_InvalidatesCachedUser() {
+        // Given
+        when(userRepository.findByUsernameAndIsActiveTrue("john")).thenReturn(Optional.of(testUser));
+        userDetailsService.loadUserByUsername("john");
+
+        // When
+        userDetailsService.onCredentialsChanged(new UserCredentialsChangedEvent("john", 3L, false));
+        when(userRepository.findByUsernameAndIsActiveTrue("john")).thenReturn(Optional.empty());
+
+        // Then
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("john"));
+        verify(userRepository, times(2)).findByUsernameAndIsActiveTrue("john");
+    }
+
+    @Test
+    void updatePassword_StoresNewHashKeepsEpochAndInvalidatesCache() {
+        // Given
+        when(userRepository.findByUsernameAndIsActiveTrue("john")).thenReturn(Optional.of(testUser));
+        UserDetails loaded = userDetailsService.loadUserByUsername("john");
+
+        // When
+        UserDetails updated = userDetailsService.updatePassword(loaded, "{bcrypt}$2a$12$rehashed.password.hash");
+        userDetailsService.loadUserByUsername("john");
+
+        // Then
+        assertEquals("{bcrypt}$2a$12$rehashed.password.hash", updated.getPassword());
+        assertEquals(2L, ((AuthenticatedUser) updated).getCredentialEpoch());
+        verify(userRepository).updatePassword("john", "{bcrypt}$2a$12$rehashed.password.hash");
+        verify(userRepository, times(2)).findByUsernameAndIsActiveTrue("john");
+    }
+}
@@ -0,0 +1,95 @@
+package com.seek.test.seek_test.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.seek.test.seek_test.dto.CustomerPageResponseDto;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerJsonModuleTest {
+
+    private final ObjectMapper defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper optimizedMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new CustomerJsonModule())
+            .build();
+
+    @Test
+    void customer_SerializesToSameBytesAsDefault() throws Exception {
+        for (CustomerResponseDto customer : sampleCustomers()) {
+            assertEquals(defaultMapper.writeValueAsString(customer), optimizedMapper.writeValueAsString(customer));
+            assertArrayEquals(defaultMapper.writeValueAsBytes(customer), optimizedMapper.writeValueAsBytes(customer));
+        }
+    }
+
+    @Test
+    void page_SerializesToSameBytesAsDefault() throws Exception {
+        // Given
+        CustomerPageResponseDto page = CustomerPageResponseDto.builder()
+                .content(sampleCustomers())
+                .pageNumber(2)
+                .pageSize(100)
+                .totalElements(1234L)
+                .totalPages(13)
+                .first(false)
+                .last(false)
+                .hasNext(true)
+                .hasPrevious(true)
+                .build();
+        CustomerPageResponseDto emptyPage = CustomerPageResponseDto.builder().first(true).last(true).build();
+
+        // When & Then
+        assertArrayEquals(defaultMapper.writeValueAsBytes(page), optimizedMapper.writeValueAsBytes(page));
+        assertArrayEquals(defaultMapper.writeValueAsBytes(emptyPage), optimizedMapper.writeValueAsBytes(emptyPage));
+        assertEquals(defaultMapper.writerWithDefaultPrettyPrinter().writeValueAsString(page),
+                optimizedMapper.writerWithDefaultPrettyPrinter().writeValueAsString(page));
+    }
+
+    @Test
+    void page_WithTimestampDates_FallsBackToDefaultSerializer() throws Exception {
+        // Given
+        ObjectMapper defaultCbor = BinaryFormatConfig.binaryMapper(Jackson2ObjectMapperBuilder.json(), new CBORFactory());
+        ObjectMapper optimizedCbor = BinaryFormatConfig.binaryMapper(
+                Jackson2ObjectMapperBuilder.json().modulesToInstall(new CustomerJsonModule()), new CBORFactory());
+        CustomerPageResponseDto page = CustomerPageResponseDto.builder().content(sampleCustomers()).build();
+
+        // When & Then
+        assertArrayEquals(defaultCbor.writeValueAsBytes(page), optimizedCbor.writeValueAsBytes(page));
+    }
+
+    private static List<CustomerResponseDto> sampleCustomers() {
+        List<CustomerResponseDto> customers = new ArrayList<>(Arrays.asList(
+                customer(1L, "John", "Doe", LocalDate.of(1993, 1, 15), LocalDateTime.of(2025, 1, 3, 10, 0, 0)),
+                customer(2L, "José", "Muñoz \"Pepe\"", LocalDate.of(1950, 12, 31), LocalDateTime.of(2024, 2, 29, 23, 59, 59, 500_000_000)),
+                customer(3L, "Ana", "O'Brien\n", LocalDate.of(2000, 2, 29), LocalDateTime.of(2025, 6, 1, 0, 0, 0, 123_456_789)),
+                customer(4L, "Li", "Wu", LocalDate.of(1, 1, 1), LocalDateTime.of(2025, 6, 1, 8, 5, 0, 1_000)),
+                customer(5L, "Max", "Year", LocalDate.of(12345, 5, 6), LocalDateTime.of(12345, 5, 6, 7, 8, 9))));
+        // Sparse customer, as returned for fields=id,fullName
+        customers.add(CustomerResponseDto.builder().id(6L).fullName("Only Name").build());
+        customers.add(new CustomerResponseDto());
+        return customers;
+    }
+
+    private static CustomerResponseDto customer(Long id, String firstName, String lastName, LocalDate birthDate,
+                                                LocalDateTime createdAt) {
+        return CustomerResponseDto.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .fullName(firstName + " " + lastName)
+                .age(30)
+                .birthDate(birthDate)
+                .estimatedLifeExpectancy(birthDate.plusYears(73))
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusNanos(10))
+                .build();
+    }
+}
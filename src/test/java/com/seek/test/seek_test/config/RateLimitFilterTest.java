@@ -0,0 +1,118 @@
+package com.seek.test.seek_test.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seek.test.seek_test.service.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.filters.RemoteIpFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final String LOAD_BALANCER = "10.0.1.5";
+    private static final String LOGIN = "/api/v1/auth/login";
+
+    // Configured like the application's mapper, which serializes the LocalDateTime of ErrorResponse
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Rule login = new RateLimitProperties.Rule();
+        login.setName("login");
+        login.setPathPattern(LOGIN);
+        login.setMethod("POST");
+        login.setKeyBy(RateLimitProperties.KeyBy.IP);
+        login.setCapacity(2);
+        login.setRefillPerSecond(0.001);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(login));
+        rateLimitFilter = new RateLimitFilter(new RateLimiter(properties, new SimpleMeterRegistry()), objectMapper);
+    }
+
+    @Test
+    void login_TwoClientsBehindSameLoadBalancer_GetSeparateBuckets() throws Exception {
+        // Given: the first client used up its bucket
+        assertEquals(HttpStatus.OK.value(), login("203.0.113.10").getStatus());
+        assertEquals(HttpStatus.OK.value(), login("203.0.113.10").getStatus());
+
+        // When
+        int sameClient = login("203.0.113.10").getStatus();
+        int otherClient = login("198.51.100.20").getStatus();
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), sameClient);
+        assertEquals(HttpStatus.OK.value(), otherClient);
+    }
+
+    @Test
+    void login_BucketExhausted_ReturnsErrorBodyAndRetryAfter() throws Exception {
+        // Given
+        login("203.0.113.10");
+        login("203.0.113.10");
+
+        // When
+        MockHttpServletResponse response = login("203.0.113.10");
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertTrue(Long.parseLong(response.getHeader(HttpHeaders.RETRY_AFTER)) >= 1);
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertEquals(429, body.get("status").asInt());
+        assertEquals("Too Many Requests", body.get("error").asText());
+        assertEquals("Rate limit exceeded for 'login', please retry later", body.get("message").asText());
+        assertEquals(LOGIN, body.get("path").asText());
+        assertTrue(body.hasNonNull("timestamp"));
+    }
+
+    @Test
+    void login_SpoofedForwardedForEntry_KeepsBucketOfConnectingClient() throws Exception {
+        // Given
+        login("203.0.113.10");
+        login("203.0.113.10");
+
+        // When: the load balancer appends the real client IP after the one sent by the client
+        int spoofed = login("192.0.2.99, 203.0.113.10").getStatus();
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), spoofed);
+    }
+
+    /**
+     * Login through the load balancer, with the client IP resolved the way Tomcat's remote IP
+     * valve does for server.forward-headers-strategy=native
+     */
+    private MockHttpServletResponse login(String forwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", LOGIN);
+        request.setRemoteAddr(LOAD_BALANCER);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new MockFilterChain(new OkServlet(), new RemoteIpFilter(), rateLimitFilter).doFilter(request, response);
+        return response;
+    }
+
+    private static final class OkServlet extends HttpServlet {
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+            response.setStatus(HttpStatus.OK.value());
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.seek.test.seek_test.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHERE_AM_I = "SELECT name FROM node";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DriverManagerDataSource primary = database("primary");
+    private final SwitchableDataSource replica = new SwitchableDataSource(database("replica").getUrl());
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_GoesToReplica_OtherTransactionsToPrimary() {
+        // Given
+        route(List.of(new ReplicaRoutingDataSource.Replica("replica", replica, 1)), Duration.ZERO);
+
+        // When & Then
+        assertEquals("replica", readOnly.execute(status -> whereAmI()));
+        assertEquals("primary", readWrite.execute(status -> whereAmI()));
+        assertEquals("primary", whereAmI());
+        assertEquals(1.0, connections("replica", "read-only"));
+        assertEquals(2.0, connections("primary", "read-write"));
+    }
+
+    @Test
+    void readAfterWrite_WithinWindow_StaysOnPrimaryForSamePrincipalOnly() {
+        // Given
+        route(List.of(new ReplicaRoutingDataSource.Replica("replica", replica, 1)), Duration.ofMinutes(1));
+        authenticate("writer");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        // When
+        String writerRead = readOnly.execute(status -> whereAmI());
+        authenticate("reader");
+        String otherRead = readOnly.execute(status -> whereAmI());
+
+        // Then
+        assertEquals("primary", writerRead);
+        assertEquals("replica", otherRead);
+        assertEquals(1.0, connections("primary", "read-only"));
+    }
+
+    @Test
+    void readAfterRolledBackWrite_GoesToReplica() {
+        // Given
+        route(List.of(new ReplicaRoutingDataSource.Replica("replica", replica, 1)), Duration.ofMinutes(1));
+        authenticate("writer");
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        // When & Then
+        assertEquals("replica", readOnly.execute(status -> whereAmI()));
+    }
+
+    @Test
+    void replicaDown_ReadsFallBackToPrimaryUntilHealthCheckPasses() {
+        // Given
+        route(List.of(new ReplicaRoutingDataSource.Replica("replica", replica, 1)), Duration.ZERO);
+        replica.down = true;
+
+        // When
+        String whileDown = readOnly.execute(status -> whereAmI());
+        replica.down = false;
+        String beforeCheck = readOnly.execute(status -> whereAmI());
+        routingDataSource.checkReplicas();
+        String afterCheck = readOnly.execute(status -> whereAmI());
+
+        // Then
+        assertEquals("primary", whileDown);
+        assertEquals("primary", beforeCheck);
+        assertEquals("replica", afterCheck);
+        assertEquals(1.0, meterRegistry.get("datasource.routing.replica.failures").tag("target", "replica").counter().count());
+        assertEquals(1.0, meterRegistry.get("datasource.routing.replica.healthy").tag("target", "replica").gauge().value());
+    }
+
+    @Test
+    void replicaPoolSaturated_ReadGoesToPrimaryAndReplicaStaysInRotation() {
+        // Given
+        route(List.of(new ReplicaRoutingDataSource.Replica("replica", replica, 1)), Duration.ZERO);
+        replica.saturated = true;
+
+        // When
+        String whileSaturated = readOnly.execute(status -> whereAmI());
+        routingDataSource.checkReplicas();
+        replica.saturated = false;
+        String afterwards = readOnly.execute(status -> whereAmI());
+
+        // Then
+        assertEquals("primary", whileSaturated);
+        assertEquals("replica", afterwards);
+        assertEquals(1.0, meterRegistry.get("datasource.routing.replica.saturated").tag("target", "replica").counter().count());
+        assertEquals(0.0, meterRegistry.get("datasource.routing.replica.failures").tag("target", "replica").counter().count());
+        assertEquals(1.0, meterRegistry.get("datasource.routing.replica.healthy").tag("target", "replica").gauge().value());
+    }
+
+    @Test
+    void poolTimeoutCausedByConnectionFailure_TakesReplicaOutOfRotation() {
+        // Given
+        route(List.of(new ReplicaRoutingDataSource.Replica("replica", replica, 1)), Duration.ZERO);
+        replica.unreachable = true;
+
+        // When
+        String whileUnreachable = readOnly.execute(status -> whereAmI());
+        replica.unreachable = false;
+        String beforeCheck = readOnly.execute(status -> whereAmI());
+
+        // Then
+        assertEquals("primary", whileUnreachable);
+        assertEquals("primary", beforeCheck);
+        assertEquals(1.0, meterRegistry.get("datasource.routing.replica.failures").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void healthCheck_TakesInvalidReplicaOutOfRotation() {
+        // Given
+        route(List.of(new ReplicaRoutingDataSource.Replica("replica", replica, 1)), Duration.ZERO);
+        replica.down = true;
+
+        // When
+        routingDataSource.checkReplicas();
+        replica.down = false;
+
+        // Then
+        assertEquals(0.0, meterRegistry.get("datasource.routing.replica.healthy").tag("target", "replica").gauge().value());
+        assertEquals("primary", readOnly.execute(status -> whereAmI()));
+    }
+
+    @Test
+    void readOnlyTransactions_AreSpreadByWeight() {
+        // Given
+        DriverManagerDataSource light = database("light");
+        route(List.of(
+                new ReplicaRoutingDataSource.Replica("replica", replica, 3),
+                new ReplicaRoutingDataSource.Replica("light", light, 1)), Duration.ZERO);
+        int reads = 2000;
+
+        // When
+        for (int i = 0; i < reads; i++) {
+            readOnly.execute(status -> whereAmI());
+        }
+
+        // Then
+        double heavyShare = connections("replica", "read-only") / reads;
+        assertEquals((double) reads, connections("replica", "read-only") + connections("light", "read-only"));
+        assertTrue(heavyShare > 0.68 && heavyShare < 0.82, "Share of the replica with weight 3 was " + heavyShare);
+    }
+
+    private void route(List<ReplicaRoutingDataSource.Replica> replicas, Duration readYourWritesWindow) {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, readYourWritesWindow, 1000, 1, meterRegistry);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject(WHERE_AM_I, String.class);
+    }
+
+    private double connections(String target, String access) {
+        return meterRegistry.get("datasource.routing.connections")
+                .tag("target", target)
+                .tag("access", access)
+                .counter()
+                .count();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    /**
+     * Separate in-memory H2 database whose node table holds its name
+     */
+    private static DriverManagerDataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static final class SwitchableDataSource extends DriverManagerDataSource {
+
+        private volatile boolean down;
+        private volatile boolean saturated;
+        private volatile boolean unreachable;
+
+        SwitchableDataSource(String url) {
+            super(url, "sa", "");
+        }
+
+        /**
+         * Fails the way Hikari does: a pool timeout carries the last connection failure as its
+         * cause when the pool could not connect, and no cause when it was only saturated
+         */
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Replica is down");
+            }
+            if (saturated) {
+                throw new SQLTransientConnectionException("replica - Connection is not available, request timed out after 1000ms.");
+            }
+            if (unreachable) {
+                throw new SQLTransientConnectionException("replica - Connection is not available, request timed out after 1000ms.",
+                        "08S01", new SQLException("Communications link failure", "08S01"));
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.seek.test.seek_test.controller;
+
+import com.seek.test.seek_test.service.CustomerCompositeService;
+import com.seek.test.seek_test.service.CustomerService;
+import com.seek.test.seek_test.service.CustomerStreamLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerControllerStreamTest {
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private CustomerCompositeService customerCompositeService;
+
+    private final CustomerStreamLimiter customerStreamLimiter = new CustomerStreamLimiter(1, 5);
+
+    private CustomerController customerController;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        customerController = new CustomerController(customerService, customerCompositeService,
+                customerStreamLimiter, Jackson2ObjectMapperBuilder.json().build());
+        request = new MockHttpServletRequest("GET", "/api/v1/customers/stream");
+        request.setAsyncSupported(true);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void streamCustomers_ExecutorRejectsBody_ReleasesPermitWhenRequestCompletes() throws Exception {
+        // Given: the task executor is full, so the body of the stream never runs
+        WebAsyncManager asyncManager = asyncManager(task -> {
+            throw new TaskRejectedException("Executor is full");
+        });
+        ResponseEntity<StreamingResponseBody> entity = stream();
+        assertEquals(0, customerStreamLimiter.availablePermits());
+
+        // When
+        startStreaming(asyncManager, entity.getBody());
+        request.getAsyncContext().complete();
+
+        // Then
+        assertEquals(1, customerStreamLimiter.availablePermits());
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    void streamCustomers_BodyRunsAndRequestCompletes_ReleasesPermitOnce() throws Exception {
+        // Given
+        WebAsyncManager asyncManager = asyncManager(Runnable::run);
+        ResponseEntity<StreamingResponseBody> entity = stream();
+
+        // When
+        startStreaming(asyncManager, entity.getBody());
+        request.getAsyncContext().complete();
+
+        // Then
+        assertEquals(1, customerStreamLimiter.availablePermits());
+        verify(customerService).streamCustomers(any(), any(), any());
+    }
+
+    private WebAsyncManager asyncManager(AsyncTaskExecutor executor) {
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        asyncManager.setTaskExecutor(executor);
+        return asyncManager;
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream() {
+        return customerController.streamCustomers(null, null, null, null, null, null, null, null, request);
+    }
+
+    /**
+     * Hands the body to the async manager the way StreamingResponseBodyReturnValueHandler does
+     */
+    private void startStreaming(WebAsyncManager asyncManager, StreamingResponseBody body) throws Exception {
+        asyncManager.startCallableProcessing(() -> {
+            body.writeTo(response.getOutputStream());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,230 @@
+package com.seek.test.seek_test.grpc;
+
+import com.seek.test.seek_test.config.AuthenticatedUser;
+import com.seek.test.seek_test.config.GrpcAuthenticationInterceptor;
+import com.seek.test.seek_test.config.JwtTokenAuthenticator;
+import com.seek.test.seek_test.dto.CustomerBatchItemDto;
+import com.seek.test.seek_test.dto.CustomerBatchResponseDto;
+import com.seek.test.seek_test.dto.CustomerRequestDto;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
+import com.seek.test.seek_test.exception.CustomerNotFoundException;
+import com.seek.test.seek_test.service.ApiKeyRegistry;
+import com.seek.test.seek_test.service.CustomerService;
+import io.grpc.ClientInterceptor;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerGrpcServiceTest {
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private JwtTokenAuthenticator jwtTokenAuthenticator;
+
+    @Mock
+    private ApiKeyRegistry apiKeyRegistry;
+
+    private CustomerGrpcService customerGrpcService;
+    private Server server;
+    private ManagedChannel channel;
+    private CustomerServiceGrpc.CustomerServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        customerGrpcService = new CustomerGrpcService(customerService,
+                Validation.buildDefaultValidatorFactory().getValidator(), 2);
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(customerGrpcService,
+                        new GrpcAuthenticationInterceptor(jwtTokenAuthenticator, apiKeyRegistry)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = CustomerServiceGrpc.newBlockingStub(channel).withInterceptors(bearer("valid-token"));
+
+        lenient().when(jwtTokenAuthenticator.resolveUser("valid-token")).thenReturn(
+                new AuthenticatedUser("john", "", List.of(new SimpleGrantedAuthority("ROLE_USER")), 0L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+        customerGrpcService.shutdown();
+    }
+
+    @Test
+    void getCustomer_WithValidToken_ReturnsCustomer() {
+        // Given
+        when(customerService.getCustomerById(1L)).thenReturn(customer(1L, "Juan"));
+
+        // When
+        Customer result = stub.getCustomer(GetCustomerRequest.newBuilder().setId(1L).build());
+
+        // Then
+        assertEquals(1L, result.getId());
+        assertEquals("Juan Pérez", result.getFullName());
+        assertEquals(LocalDate.now().minusYears(30).toString(), result.getBirthDate());
+    }
+
+    @Test
+    void getCustomer_WithoutCredentials_IsUnauthenticated() {
+        // Given
+        CustomerServiceGrpc.CustomerServiceBlockingStub anonymous = CustomerServiceGrpc.newBlockingStub(channel);
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> anonymous.getCustomer(GetCustomerRequest.newBuilder().setId(1L).build()));
+
+        // Then
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    void getCustomer_NotFound_MapsToNotFoundStatus() {
+        // Given
+        when(customerService.getCustomerById(40L))
+                .thenThrow(new CustomerNotFoundException("Customer not found with ID: 40"));
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub.getCustomer(GetCustomerRequest.newBuilder().setId(40L).build()));
+
+        // Then
+        assertEquals(Status.Code.NOT_FOUND, exception.getStatus().getCode());
+        assertEquals("Customer not found with ID: 40", exception.getStatus().getDescription());
+    }
+
+    @Test
+    void batchGetCustomers_KeepsRequestOrderAndReportsMissingIds() {
+        // Given
+        when(customerService.getCustomersBatch(List.of(3L, 2L, 1L))).thenReturn(CustomerBatchResponseDto.builder()
+                .results(List.of(
+                        CustomerBatchItemDto.builder().id(3L).found(true).customer(customer(3L, "Ana")).build(),
+                        CustomerBatchItemDto.builder().id(2L).found(false).build(),
+                        CustomerBatchItemDto.builder().id(1L).found(true).customer(customer(1L, "Juan")).build()))
+                .found(2)
+                .notFound(1)
+                .build());
+
+        // When
+        BatchGetCustomersResponse response = stub.batchGetCustomers(BatchGetCustomersRequest.newBuilder()
+                .addIds(3L).addIds(2L).addIds(1L)
+                .build());
+
+        // Then
+        assertEquals(List.of(3L, 1L), response.getCustomersList().stream().map(Customer::getId).toList());
+        assertEquals(List.of(2L), response.getNotFoundIdsList());
+    }
+
+    @Test
+    void listCustomers_StreamsEveryCustomer() {
+        // Given
+        when(customerService.streamCustomers(any(), any())).thenAnswer(invocation -> {
+            Consumer<CustomerResponseDto> sink = invocation.getArgument(1);
+            for (long id = 1; id <= 5; id++) {
+                sink.accept(customer(id, "Customer" + id));
+            }
+            return 5L;
+        });
+
+        // When
+        Iterator<Customer> customers = stub.listCustomers(CustomerFilter.newBuilder().setMinAge(18).build());
+        List<Long> ids = new ArrayList<>();
+        customers.forEachRemaining(customer -> ids.add(customer.getId()));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), ids);
+    }
+
+    @Test
+    void createCustomer_InvalidRequest_IsRejectedBeforeTheService() {
+        // Given
+        CreateCustomerRequest request = CreateCustomerRequest.newBuilder()
+                .setFirstName("J")
+                .setLastName("Doe")
+                .setAge(30)
+                .setBirthDate(LocalDate.now().minusYears(30).toString())
+                .build();
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> stub.createCustomer(request));
+
+        // Then
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+        verify(customerService, never()).createCustomer(any(CustomerRequestDto.class));
+    }
+
+    @Test
+    void createCustomer_WithReadOnlyApiKey_IsPermissionDenied() {
+        // Given
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("x-api-key", Metadata.ASCII_STRING_MARSHALLER), "sk_read");
+        when(apiKeyRegistry.authenticate("sk_read")).thenReturn(Optional.of(
+                new ApiKeyRegistry.ApiKeyPrincipal(1L, "api-key:reports",
+                        List.of(new SimpleGrantedAuthority("SCOPE_customers:read")), null)));
+        CustomerServiceGrpc.CustomerServiceBlockingStub readOnly = CustomerServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> readOnly.createCustomer(CreateCustomerRequest.newBuilder().setFirstName("John").build()));
+
+        // Then
+        assertEquals(Status.Code.PERMISSION_DENIED, exception.getStatus().getCode());
+        verifyNoInteractions(customerService);
+    }
+
+    private static ClientInterceptor bearer(String token) {
+        Metadata headers = new Metadata();
+        headers.put(AUTHORIZATION, "Bearer " + token);
+        return MetadataUtils.newAttachHeadersInterceptor(headers);
+    }
+
+    private static CustomerResponseDto customer(Long id, String firstName) {
+        LocalDate birthDate = LocalDate.now().minusYears(30);
+        return CustomerResponseDto.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName("Pérez")
+                .fullName(firstName + " Pérez")
+                .age(30)
+                .birthDate(birthDate)
+                .estimatedLifeExpectancy(birthDate.plusYears(75))
+                .build();
+    }
+}
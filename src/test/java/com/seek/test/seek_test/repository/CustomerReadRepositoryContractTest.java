@@ -0,0 +1,159 @@
+package com.seek.test.seek_test.repository;
+
+import com.seek.test.seek_test.entity.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Behaviour every {@link CustomerReadRepository} implementation has to share. Rows are inserted
+ * with plain SQL so both implementations read exactly what is stored; the sample customers
+ * from the migrations are also present. The test methods are inherited, so the transaction
+ * of {@code @DataJpaTest} has to be declared here for each of them to run in one and roll back
+ */
+@Transactional
+abstract class CustomerReadRepositoryContractTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 3, 10, 0, 0, 123_000_000);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 2, 4, 11, 30, 15);
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerRepository jpaRepository;
+
+    private long activeId;
+    private long deletedId;
+
+    protected abstract CustomerReadRepository repository();
+
+    @BeforeEach
+    void insertCustomers() {
+        activeId = insert("Ana", "Contract", 30, LocalDate.of(1995, 2, 10), false);
+        deletedId = insert("Luis", "Contract", 40, LocalDate.of(1985, 6, 1), true);
+    }
+
+    @Test
+    void findByIdAndIsDeletedFalse_ReturnsEveryColumn() {
+        // When
+        Optional<Customer> result = repository().findByIdAndIsDeletedFalse(activeId);
+
+        // Then
+        assertTrue(result.isPresent());
+        Customer customer = result.get();
+        assertEquals(activeId, customer.getId());
+        assertEquals("Ana", customer.getFirstName());
+        assertEquals("Contract", customer.getLastName());
+        assertEquals(30, customer.getAge());
+        assertEquals(LocalDate.of(1995, 2, 10), customer.getBirthDate());
+        assertFalse(customer.getIsDeleted());
+        assertEquals(CREATED_AT, customer.getCreatedAt());
+        assertEquals(UPDATED_AT, customer.getUpdatedAt());
+    }
+
+    @Test
+    void findByIdAndIsDeletedFalse_IgnoresDeletedAndMissingCustomers() {
+        // When & Then
+        assertTrue(repository().findByIdAndIsDeletedFalse(deletedId).isEmpty());
+        assertTrue(repository().findByIdAndIsDeletedFalse(Long.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void countByIsDeletedFalse_CountsOnlyActiveCustomers() {
+        // Given
+        long expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customers WHERE is_deleted = FALSE", Long.class);
+
+        // When & Then
+        assertEquals(expected, repository().countByIsDeletedFalse());
+    }
+
+    @Test
+    void findByIsDeletedFalse_ReturnsRequestedPageInSortOrder() {
+        // Given
+        List<Long> activeIds = jdbcTemplate.queryForList(
+                "SELECT id FROM customers WHERE is_deleted = FALSE ORDER BY id DESC", Long.class);
+
+        // When
+        Page<Customer> page = repository().findByIsDeletedFalse(PageRequest.of(1, 3, Sort.by("id").descending()));
+
+        // Then
+        assertEquals(activeIds.subList(3, Math.min(6, activeIds.size())),
+                page.getContent().stream().map(Customer::getId).toList());
+        assertEquals(activeIds.size(), page.getTotalElements());
+        assertEquals(1, page.getNumber());
+        assertTrue(page.getContent().stream().noneMatch(Customer::getIsDeleted));
+    }
+
+    @Test
+    void findByIsDeletedFalse_PastTheLastPage_IsEmptyWithTotal() {
+        // Given
+        long active = repository().countByIsDeletedFalse();
+
+        // When
+        Page<Customer> page = repository().findByIsDeletedFalse(PageRequest.of((int) active, 1, Sort.by("id")));
+
+        // Then
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(active, page.getTotalElements());
+    }
+
+    @Test
+    void reads_AfterUnflushedJpaChangesInSameTransaction_SeeTheChanges() {
+        // Given: changes made through JPA in the current transaction, not flushed yet
+        long toDeleteId = insert("Eva", "Contract", 25, LocalDate.of(2000, 3, 3), false);
+        long activeBefore = repository().countByIsDeletedFalse();
+        // Loaded and saved the way CustomerService does it; no query runs after the changes
+        Customer customer = jpaRepository.findByIdAndIsDeletedFalse(activeId).orElseThrow();
+        Customer toDelete = jpaRepository.findByIdAndIsDeletedFalse(toDeleteId).orElseThrow();
+        customer.setFirstName("Anita");
+        jpaRepository.save(customer);
+        toDelete.setIsDeleted(true);
+        jpaRepository.save(toDelete);
+
+        // When
+        Optional<Customer> updated = repository().findByIdAndIsDeletedFalse(activeId);
+        Optional<Customer> deleted = repository().findByIdAndIsDeletedFalse(toDeleteId);
+
+        // Then
+        assertEquals("Anita", updated.orElseThrow().getFirstName());
+        assertTrue(deleted.isEmpty());
+        assertEquals(activeBefore - 1, repository().countByIsDeletedFalse());
+    }
+
+    private long insert(String firstName, String lastName, int age, LocalDate birthDate, boolean deleted) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO customers (first_name, last_name, age, birth_date, is_deleted, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            statement.setString(1, firstName);
+            statement.setString(2, lastName);
+            statement.setInt(3, age);
+            statement.setDate(4, Date.valueOf(birthDate));
+            statement.setBoolean(5, deleted);
+            statement.setTimestamp(6, Timestamp.valueOf(CREATED_AT));
+            statement.setTimestamp(7, Timestamp.valueOf(UPDATED_AT));
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
@@ -0,0 +1,30 @@
+package com.seek.test.seek_test.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import javax.sql.DataSource;
+
+@DataJpaTest
+class JdbcCustomerReadRepositoryTest extends CustomerReadRepositoryContractTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private JdbcCustomerReadRepository jdbcCustomerReadRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcCustomerReadRepository = new JdbcCustomerReadRepository(dataSource, entityManager, 100);
+    }
+
+    @Override
+    protected CustomerReadRepository repository() {
+        return jdbcCustomerReadRepository;
+    }
+}
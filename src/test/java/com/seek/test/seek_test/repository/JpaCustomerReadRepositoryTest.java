@@ -0,0 +1,16 @@
+package com.seek.test.seek_test.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class JpaCustomerReadRepositoryTest extends CustomerReadRepositoryContractTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Override
+    protected CustomerReadRepository repository() {
+        return customerRepository;
+    }
+}
@@ -0,0 +1,107 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.entity.ApiKey;
+import com.seek.test.seek_test.repository.ApiKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyRegistryTest {
+
+    private static final String BATCH_KEY = "sk_batch-key-for-tests";
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    private ApiKeyRegistry registry;
+    private ApiKey batchKey;
+    private LocalDateTime updatedAt;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ApiKeyRegistry(apiKeyRepository, new SimpleMeterRegistry());
+        batchKey = createApiKey(1L, "nightly-batch", BATCH_KEY, "customers:read, customers:write", null);
+        updatedAt = LocalDateTime.of(2025, 1, 3, 10, 0, 0);
+    }
+
+    @Test
+    void authenticate_KnownKey_ReturnsPrincipalWithScopeAuthorities() {
+        // Given
+        when(apiKeyRepository.findLastUpdatedAt()).thenReturn(updatedAt);
+        when(apiKeyRepository.findByIsActiveTrue()).thenReturn(List.of(batchKey));
+        registry.reload();
+
+        // When
+        Optional<ApiKeyRegistry.ApiKeyPrincipal> principal = registry.authenticate(BATCH_KEY);
+
+        // Then
+        assertTrue(principal.isPresent());
+        assertEquals("api-key:nightly-batch", principal.get().name());
+        assertEquals(List.of("SCOPE_customers:read", "SCOPE_customers:write"),
+                principal.get().authorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertTrue(registry.authenticate("sk_unknown").isEmpty());
+    }
+
+    @Test
+    void authenticate_ExpiredKey_IsRejected() {
+        // Given
+        ApiKey expired = createApiKey(2L, "old-batch", "sk_old", "customers:read", LocalDateTime.now().minusMinutes(1));
+        when(apiKeyRepository.findByIsActiveTrue()).thenReturn(List.of(expired));
+        registry.reload();
+
+        // When / Then
+        assertTrue(registry.authenticate("sk_old").isEmpty());
+    }
+
+    @Test
+    void refresh_TableChangedElsewhere_ReloadsKeys() {
+        // Given
+        when(apiKeyRepository.findLastUpdatedAt()).thenReturn(updatedAt);
+        when(apiKeyRepository.count()).thenReturn(1L);
+        when(apiKeyRepository.findByIsActiveTrue()).thenReturn(List.of(batchKey));
+        registry.reload();
+
+        // When: the key was revoked by another instance
+        when(apiKeyRepository.findLastUpdatedAt()).thenReturn(updatedAt.plusSeconds(5));
+        when(apiKeyRepository.findByIsActiveTrue()).thenReturn(List.of());
+        registry.refresh();
+
+        // Then
+        assertEquals(0, registry.size());
+        assertTrue(registry.authenticate(BATCH_KEY).isEmpty());
+    }
+
+    @Test
+    void refresh_TableUnchanged_DoesNotReload() {
+        // Given
+        when(apiKeyRepository.findLastUpdatedAt()).thenReturn(updatedAt);
+        when(apiKeyRepository.count()).thenReturn(1L);
+        when(apiKeyRepository.findByIsActiveTrue()).thenReturn(List.of(batchKey));
+        registry.reload();
+
+        // When
+        registry.refresh();
+
+        // Then
+        verify(apiKeyRepository, times(1)).findByIsActiveTrue();
+        assertEquals(1, registry.size());
+    }
+
+    private ApiKey createApiKey(Long id, String name, String rawKey, String scopes, LocalDateTime expiresAt) {
+        ApiKey apiKey = new ApiKey(name, rawKey.substring(0, 3), ApiKeyRegistry.hash(rawKey), scopes, expiresAt);
+        apiKey.setId(id);
+        return apiKey;
+    }
+}
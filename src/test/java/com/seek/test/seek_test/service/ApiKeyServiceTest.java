@@ -0,0 +1,68 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.ApiKeyCreateResponseDto;
+import com.seek.test.seek_test.dto.ApiKeyRequestDto;
+import com.seek.test.seek_test.entity.ApiKey;
+import com.seek.test.seek_test.repository.ApiKeyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyServiceTest {
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ApiKeyService apiKeyService;
+
+    @Test
+    void createApiKey_StoresOnlyTheHashAndPublishesChange() {
+        // Given
+        ApiKeyRequestDto request = new ApiKeyRequestDto("nightly-batch", List.of("customers:read"), 30);
+        when(apiKeyRepository.existsByName("nightly-batch")).thenReturn(false);
+        when(apiKeyRepository.save(any(ApiKey.class))).thenAnswer(invocation -> {
+            ApiKey apiKey = invocation.getArgument(0);
+            apiKey.setId(1L);
+            return apiKey;
+        });
+
+        // When
+        ApiKeyCreateResponseDto response = apiKeyService.createApiKey(request);
+
+        // Then
+        ArgumentCaptor<ApiKey> captor = ArgumentCaptor.forClass(ApiKey.class);
+        verify(apiKeyRepository).save(captor.capture());
+        ApiKey stored = captor.getValue();
+        assertTrue(response.getApiKey().startsWith(stored.getKeyPrefix()));
+        assertEquals(ApiKeyRegistry.hash(response.getApiKey()), stored.getKeyHash());
+        assertEquals("customers:read", stored.getScopes());
+        assertNotNull(stored.getExpiresAt());
+        verify(eventPublisher).publishEvent(new ApiKeysChangedEvent(1L));
+    }
+
+    @Test
+    void createApiKey_UnknownScope_ThrowsException() {
+        // Given
+        ApiKeyRequestDto request = new ApiKeyRequestDto("nightly-batch", List.of("customers:admin"), null);
+        when(apiKeyRepository.existsByName("nightly-batch")).thenReturn(false);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> apiKeyService.createApiKey(request));
+        verify(apiKeyRepository, never()).save(any());
+    }
+}
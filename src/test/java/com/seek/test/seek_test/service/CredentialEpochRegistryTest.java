@@ -0,0 +1,166 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.entity.User;
+import com.seek.test.seek_test.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialEpochRegistryTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CredentialEpochRegistry registry;
+
+    private User john;
+    private User jane;
+
+    @BeforeEach
+    void setUp() {
+        john = createUser("john", 0L, true);
+        jane = createUser("jane", 3L, true);
+    }
+
+    @Test
+    void reload_AcceptsOnlyCurrentEpochOfActiveUsers() {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(john, jane));
+
+        // When
+        registry.reload();
+
+        // Then
+        assertTrue(registry.isReady());
+        assertTrue(registry.isCurrent("john", 0L));
+        assertTrue(registry.isCurrent("jane", 3L));
+        assertFalse(registry.isCurrent("jane", 2L));
+        assertFalse(registry.isCurrent("unknown", 0L));
+    }
+
+    @Test
+    void onCredentialsChanged_RevokesOlderTokensImmediately() {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(john, jane));
+        registry.reload();
+
+        // When
+        registry.onCredentialsChanged(new UserCredentialsChangedEvent("john", 1L, true));
+        registry.onCredentialsChanged(new UserCredentialsChangedEvent("jane", 4L, false));
+
+        // Then
+        assertFalse(registry.isCurrent("john", 0L));
+        assertTrue(registry.isCurrent("john", 1L));
+        assertFalse(registry.isCurrent("jane", 3L));
+        assertFalse(registry.isCurrent("jane", 4L));
+    }
+
+    @Test
+    void refresh_AppliesChangedUsersAndPublishesEvent() {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(john, jane));
+        registry.reload();
+        User deactivated = createUser("jane", 4L, false);
+        when(userRepository.findByUpdatedAtGreaterThanEqual(any(LocalDateTime.class))).thenReturn(List.of(deactivated));
+        when(userRepository.countByIsActiveTrue()).thenReturn(1L);
+
+        // When
+        registry.refresh();
+
+        // Then
+        assertTrue(registry.isCurrent("john", 0L));
+        assertFalse(registry.isCurrent("jane", 3L));
+        verify(userRepository, times(1)).findByIsActiveTrue();
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent("jane", 4L, false));
+    }
+
+    @Test
+    void refresh_UnchangedUser_DoesNotPublishEvent() {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(john, jane));
+        registry.reload();
+        when(userRepository.findByUpdatedAtGreaterThanEqual(any(LocalDateTime.class))).thenReturn(List.of(john));
+        when(userRepository.countByIsActiveTrue()).thenReturn(2L);
+
+        // When
+        registry.refresh();
+
+        // Then
+        assertTrue(registry.isCurrent("john", 0L));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void refresh_WithDeletedUser_ReloadsAll() {
+        // Given
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(john, jane));
+        registry.reload();
+        when(userRepository.findByUpdatedAtGreaterThanEqual(any(LocalDateTime.class))).thenReturn(Collections.emptyList());
+        when(userRepository.countByIsActiveTrue()).thenReturn(1L);
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(john));
+
+        // When
+        registry.refresh();
+
+        // Then
+        assertTrue(registry.isCurrent("john", 0L));
+        assertFalse(registry.isCurrent("jane", 3L));
+        verify(userRepository, times(2)).findByIsActiveTrue();
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent("jane", 4L, false));
+    }
+
+    @Test
+    void refresh_WhileReloading_KeepsAcceptingCurrentTokens() {
+        // Given: the reload checks the tokens of both users while it loads each row
+        when(userRepository.findByIsActiveTrue()).thenReturn(List.of(john, jane));
+        registry.reload();
+        List<Boolean> acceptedDuringReload = new ArrayList<>();
+        List<User> reloadedUsers = new ArrayList<>(List.of(john, jane)) {
+            @Override
+            public void forEach(Consumer<? super User> action) {
+                for (User user : this) {
+                    acceptedDuringReload.add(registry.isCurrent("john", 0L) && registry.isCurrent("jane", 3L));
+                    action.accept(user);
+                }
+            }
+        };
+        when(userRepository.findByUpdatedAtGreaterThanEqual(any(LocalDateTime.class))).thenReturn(Collections.emptyList());
+        when(userRepository.countByIsActiveTrue()).thenReturn(3L);
+        when(userRepository.findByIsActiveTrue()).thenReturn(reloadedUsers);
+
+        // When
+        registry.refresh();
+
+        // Then
+        assertEquals(List.of(true, true), acceptedDuringReload);
+        assertTrue(registry.isCurrent("john", 0L));
+        assertTrue(registry.isCurrent("jane", 3L));
+    }
+
+    private User createUser(String username, Long credentialEpoch, boolean active) {
+        User user = new User(username, "$2a$10$encoded.password.hash");
+        user.setIsActive(active);
+        user.setCredentialEpoch(credentialEpoch);
+        user.setUpdatedAt(LocalDateTime.now());
+        return user;
+    }
+}
@@ -0,0 +1,149 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CustomerFilterDto;
+import com.seek.test.seek_test.entity.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerBitmapIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 12, 0);
+
+    private CustomerSnapshotStore store;
+    private CustomerBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        store = new CustomerSnapshotStore();
+        index = new CustomerBitmapIndex(store);
+        index.register();
+        store.replaceAll(List.of(
+                entry(1L, 20, LocalDate.of(2005, 1, 15)),
+                entry(2L, 30, LocalDate.of(1995, 2, 10)),
+                entry(3L, 40, LocalDate.of(1985, 1, 20)),
+                entry(4L, 50, LocalDate.of(1975, 6, 1)),
+                entry(5L, 60, LocalDate.of(1965, 12, 31))), NOW);
+    }
+
+    @Test
+    void match_WithoutFilter_CountsAllCustomers() {
+        // When
+        CustomerBitmapIndex.Match match = index.match(new CustomerFilterDto(), true, 100);
+
+        // Then
+        assertEquals(5, match.count());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), match.ids());
+        assertFalse(match.truncated());
+    }
+
+    @Test
+    void match_AgeRange_IsInclusiveAndOpenEnded() {
+        // When & Then
+        assertEquals(List.of(2L, 3L, 4L), index.match(CustomerFilterDto.builder().minAge(30).maxAge(50).build(), true, 100).ids());
+        assertEquals(List.of(4L, 5L), index.match(CustomerFilterDto.builder().minAge(45).build(), true, 100).ids());
+        assertEquals(List.of(1L), index.match(CustomerFilterDto.builder().maxAge(29).build(), true, 100).ids());
+        assertEquals(0, index.match(CustomerFilterDto.builder().minAge(61).maxAge(200).build(), false, 100).count());
+    }
+
+    @Test
+    void match_BirthMonths_IgnoresInvalidMonths() {
+        // When
+        CustomerBitmapIndex.Match january = index.match(
+                CustomerFilterDto.builder().birthMonths(List.of(1)).build(), true, 100);
+        CustomerBitmapIndex.Match januaryOrDecember = index.match(
+                CustomerFilterDto.builder().birthMonths(List.of(1, 12, 13, 0)).build(), true, 100);
+        CustomerBitmapIndex.Match onlyInvalid = index.match(
+                CustomerFilterDto.builder().birthMonths(List.of(13)).build(), false, 100);
+
+        // Then
+        assertEquals(List.of(1L, 3L), january.ids());
+        assertEquals(List.of(1L, 3L, 5L), januaryOrDecember.ids());
+        assertEquals(0, onlyInvalid.count());
+    }
+
+    @Test
+    void match_BirthYearsCombinedWithOtherDimensions() {
+        // When
+        CustomerBitmapIndex.Match years = index.match(
+                CustomerFilterDto.builder().birthYearFrom(1975).birthYearTo(1995).build(), true, 100);
+        CustomerBitmapIndex.Match yearsAndMonth = index.match(
+                CustomerFilterDto.builder().birthYearFrom(1980).birthMonths(List.of(1)).build(), true, 100);
+        CustomerBitmapIndex.Match allDimensions = index.match(CustomerFilterDto.builder()
+                .minAge(35).birthMonths(List.of(1, 6)).birthYearTo(1980).build(), false, 100);
+
+        // Then
+        assertEquals(List.of(2L, 3L, 4L), years.ids());
+        assertEquals(List.of(1L, 3L), yearsAndMonth.ids());
+        assertEquals(1, allDimensions.count());
+    }
+
+    @Test
+    void match_WithMoreMatchesThanMaxIds_TruncatesIds() {
+        // When
+        CustomerBitmapIndex.Match match = index.match(CustomerFilterDto.builder().minAge(30).build(), true, 2);
+        CustomerBitmapIndex.Match countOnly = index.match(CustomerFilterDto.builder().minAge(30).build(), false, 2);
+
+        // Then
+        assertEquals(4, match.count());
+        assertEquals(List.of(2L, 3L), match.ids());
+        assertTrue(match.truncated());
+        assertEquals(4, countOnly.count());
+        assertEquals(List.of(), countOnly.ids());
+        assertFalse(countOnly.truncated());
+    }
+
+    @Test
+    void storeChanges_UpdateIndexAndReuseFreedOrdinals() {
+        // Given
+        store.apply(customer(2L, 30, LocalDate.of(1995, 2, 10), true));
+        store.apply(customer(10L, 25, LocalDate.of(2000, 7, 4), false));
+        store.apply(customer(4L, 51, LocalDate.of(1974, 6, 1), false));
+
+        // When
+        CustomerBitmapIndex.Match all = index.match(new CustomerFilterDto(), true, 100);
+        CustomerBitmapIndex.Match thirties = index.match(CustomerFilterDto.builder().minAge(30).maxAge(39).build(), true, 100);
+        CustomerBitmapIndex.Match updated = index.match(CustomerFilterDto.builder().minAge(51).maxAge(51).build(), true, 100);
+        CustomerBitmapIndex.Match previousYear = index.match(
+                CustomerFilterDto.builder().birthYearFrom(1975).birthYearTo(1975).build(), false, 100);
+
+        // Then: the new customer took the ordinal of the deleted one, so it is listed in its place
+        assertEquals(List.of(1L, 10L, 3L, 4L, 5L), all.ids());
+        assertEquals(0, thirties.count());
+        assertEquals(List.of(4L), updated.ids());
+        assertEquals(0, previousYear.count());
+    }
+
+    @Test
+    void replaceAll_RebuildsIndex() {
+        // When
+        store.replaceAll(List.of(entry(7L, 33, LocalDate.of(1992, 3, 3))), NOW);
+
+        // Then
+        CustomerBitmapIndex.Match match = index.match(new CustomerFilterDto(), true, 100);
+        assertEquals(List.of(7L), match.ids());
+        assertEquals(0, index.match(CustomerFilterDto.builder().minAge(60).build(), false, 100).count());
+    }
+
+    private static CustomerSnapshotStore.Entry entry(Long id, int age, LocalDate birthDate) {
+        return new CustomerSnapshotStore.Entry(id, "Name" + id, "Last" + id, age, birthDate, NOW, NOW);
+    }
+
+    private static Customer customer(Long id, int age, LocalDate birthDate, boolean deleted) {
+        return Customer.builder()
+                .id(id)
+                .firstName("Name" + id)
+                .lastName("Last" + id)
+                .age(age)
+                .birthDate(birthDate)
+                .isDeleted(deleted)
+                .createdAt(NOW)
+                .updatedAt(NOW.plusMinutes(1))
+                .build();
+    }
+}
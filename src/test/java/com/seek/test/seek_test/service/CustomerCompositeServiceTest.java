@@ -0,0 +1,231 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CompositeOperationDto;
+import com.seek.test.seek_test.dto.CompositeRequestDto;
+import com.seek.test.seek_test.dto.CompositeResponseDto;
+import com.seek.test.seek_test.dto.CompositeResultDto;
+import com.seek.test.seek_test.dto.CustomerMetricsDto;
+import com.seek.test.seek_test.dto.CustomerRequestDto;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
+import com.seek.test.seek_test.exception.CustomerNotFoundException;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerCompositeServiceTest {
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CustomerCompositeService customerCompositeService;
+
+    @BeforeEach
+    void setUp() {
+        customerCompositeService = compositeService(2, 2, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerCompositeService.shutdown();
+    }
+
+    @Test
+    void execute_NonTransactional_RunsEveryOperationAndKeepsRequestOrder() {
+        // Given
+        CustomerRequestDto newCustomer = validCustomer();
+        when(customerService.createCustomer(newCustomer)).thenReturn(customer(7L));
+        when(customerService.getCustomerById(1L)).thenReturn(customer(1L));
+        when(customerService.getCustomerById(40L)).thenThrow(new CustomerNotFoundException("Customer not found with ID: 40"));
+        when(customerService.getCustomerMetrics()).thenReturn(CustomerMetricsDto.builder().totalCustomers(3L).build());
+
+        // When
+        CompositeResponseDto response = customerCompositeService.execute(request(false,
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.CREATE).customer(newCustomer).build(),
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(1L).build(),
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(40L).build(),
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.METRICS).build()), true);
+
+        // Then
+        assertFalse(response.isRolledBack());
+        assertEquals(List.of(201, 200, 404, 200), response.getResults().stream().map(CompositeResultDto::getStatus).toList());
+        assertEquals(List.of(0, 1, 2, 3), response.getResults().stream().map(CompositeResultDto::getIndex).toList());
+        assertEquals(1L, ((CustomerResponseDto) response.getResults().get(1).getBody()).getId());
+        assertEquals("Customer not found with ID: 40", response.getResults().get(2).getError());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void execute_Transactional_RollsBackAndSkipsRemainingOperationsOnFailure() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(customerService.createCustomer(any(CustomerRequestDto.class))).thenReturn(customer(7L));
+        when(customerService.deleteCustomer(40L)).thenThrow(new CustomerNotFoundException("Customer not found with ID: 40"));
+
+        // When
+        CompositeResponseDto response = customerCompositeService.execute(request(true,
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.CREATE).customer(validCustomer()).build(),
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.DELETE).id(40L).build(),
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(7L).build()), true);
+
+        // Then
+        assertTrue(response.isRolledBack());
+        assertEquals(List.of(201, 404, 424), response.getResults().stream().map(CompositeResultDto::getStatus).toList());
+        ArgumentCaptor<TransactionStatus> status = ArgumentCaptor.forClass(TransactionStatus.class);
+        verify(transactionManager).commit(status.capture());
+        assertTrue(status.getValue().isRollbackOnly());
+        verify(customerService, never()).getCustomerById(any());
+    }
+
+    @Test
+    void execute_WithoutWriteAccess_RejectsWritesAndStillRunsReads() {
+        // Given
+        when(customerService.getCustomerById(1L)).thenReturn(customer(1L));
+
+        // When
+        CompositeResponseDto response = customerCompositeService.execute(request(false,
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.DELETE).id(1L).build(),
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(1L).build()), false);
+
+        // Then
+        assertEquals(List.of(403, 200), response.getResults().stream().map(CompositeResultDto::getStatus).toList());
+        verify(customerService, never()).deleteCustomer(any());
+    }
+
+    @Test
+    void execute_InvalidCustomer_IsRejectedBeforeTheService() {
+        // When
+        CompositeResponseDto response = customerCompositeService.execute(request(false,
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.CREATE)
+                        .customer(CustomerRequestDto.builder().firstName("J").lastName("Doe").age(30).build())
+                        .build()), true);
+
+        // Then
+        CompositeResultDto result = response.getResults().get(0);
+        assertEquals(400, result.getStatus());
+        assertTrue(result.getError().startsWith("Validation failed: "));
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    void execute_TooManyOperations_ThrowsException() {
+        // Given
+        CompositeOperationDto metrics = CompositeOperationDto.builder().type(CompositeOperationDto.Type.METRICS).build();
+
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> customerCompositeService.execute(request(false, metrics, metrics, metrics, metrics, metrics, metrics), true));
+        assertEquals("Too many operations: 6, the maximum per request is 5", exception.getMessage());
+        verifyNoInteractions(customerService);
+    }
+
+    @Test
+    void execute_ReadPoolFull_RunsReadOnRequestThread() throws Exception {
+        // Given: one pool thread, held by the second read until the request thread runs the first
+        customerCompositeService.shutdown();
+        customerCompositeService = compositeService(5, 1, 10_000);
+        CountDownLatch firstReadDone = new CountDownLatch(1);
+        Map<Long, Thread> threads = new ConcurrentHashMap<>();
+        when(customerService.getCustomerById(any())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            threads.put(id, Thread.currentThread());
+            if (id == 1L) {
+                firstReadDone.countDown();
+            } else if (id == 2L) {
+                assertTrue(firstReadDone.await(5, TimeUnit.SECONDS));
+            }
+            return customer(id);
+        });
+
+        // When
+        CompositeResponseDto response = customerCompositeService.execute(request(false,
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(1L).build(),
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(2L).build(),
+                CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(3L).build()), false);
+
+        // Then
+        assertEquals(List.of(200, 200, 200), response.getResults().stream().map(CompositeResultDto::getStatus).toList());
+        assertEquals(Thread.currentThread(), threads.get(1L));
+        assertNotEquals(Thread.currentThread(), threads.get(2L));
+        assertEquals(Thread.currentThread(), threads.get(3L));
+    }
+
+    @Test
+    void execute_SlowParallelRead_IsAnsweredWithGatewayTimeout() throws Exception {
+        // Given
+        customerCompositeService.shutdown();
+        customerCompositeService = compositeService(2, 2, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        when(customerService.getCustomerById(1L)).thenReturn(customer(1L));
+        when(customerService.getCustomerById(2L)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return customer(2L);
+        });
+
+        try {
+            // When
+            CompositeResponseDto response = customerCompositeService.execute(request(false,
+                    CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(1L).build(),
+                    CompositeOperationDto.builder().type(CompositeOperationDto.Type.GET).id(2L).build()), false);
+
+            // Then
+            assertEquals(List.of(200, 504), response.getResults().stream().map(CompositeResultDto::getStatus).toList());
+            assertEquals("Operation timed out after 100 ms", response.getResults().get(1).getError());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private CustomerCompositeService compositeService(int maxParallelReads, int readThreads, long readTimeoutMs) {
+        return new CustomerCompositeService(customerService, Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager, 5, maxParallelReads, readThreads, readTimeoutMs);
+    }
+
+    private static CompositeRequestDto request(boolean transactional, CompositeOperationDto... operations) {
+        return CompositeRequestDto.builder()
+                .transactional(transactional)
+                .operations(List.of(operations))
+                .build();
+    }
+
+    private static CustomerRequestDto validCustomer() {
+        return CustomerRequestDto.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .age(30)
+                .birthDate(LocalDate.now().minusYears(30))
+                .build();
+    }
+
+    private static CustomerResponseDto customer(Long id) {
+        return CustomerResponseDto.builder()
+                .id(id)
+                .firstName("John")
+                .lastName("Doe")
+                .fullName("John Doe")
+                .age(30)
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CustomerField;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
+import com.seek.test.seek_test.entity.Customer;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CustomerResponseMapperTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    // DTO (~48 bytes) and full name String with its byte array (~56 bytes) per row, plus the list
+    private static final long PAGE_ALLOCATION_BUDGET = PAGE_SIZE * 128L + 1024L;
+
+    @Test
+    void toResponses_MapsSameValuesAsEntity() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2025-03-10T12:00:00Z"));
+        CustomerResponseMapper mapper = new CustomerResponseMapper(clock);
+        List<Customer> customers = List.of(customer(1L, 30), customer(2L, 80));
+
+        // When
+        List<CustomerResponseDto> responses = mapper.toResponses(customers);
+
+        // Then
+        for (int i = 0; i < customers.size(); i++) {
+            Customer customer = customers.get(i);
+            CustomerResponseDto response = responses.get(i);
+            assertEquals(customer.getId(), response.getId());
+            assertEquals(customer.getFullName(), response.getFullName());
+            assertEquals(customer.getBirthDate(), response.getBirthDate());
+            assertEquals(customer.calculateEstimatedLifeExpectancy(LocalDate.of(2025, 3, 10)),
+                    response.getEstimatedLifeExpectancy());
+            assertEquals(customer.getCreatedAt(), response.getCreatedAt());
+        }
+        assertEquals(LocalDate.of(2025, 3, 10), responses.get(1).getEstimatedLifeExpectancy());
+    }
+
+    @Test
+    void toResponse_SharesLifeExpectancyForSameAgeAndRollsOverAtMidnight() {
+        // Given
+        MutableClock clock = new MutableClock(Instant.parse("2025-03-10T23:59:59Z"));
+        CustomerResponseMapper mapper = new CustomerResponseMapper(clock);
+
+        // When
+        LocalDate first = mapper.toResponse(customer(1L, 40)).getEstimatedLifeExpectancy();
+        LocalDate second = mapper.toResponse(customer(2L, 40)).getEstimatedLifeExpectancy();
+        clock.instant = Instant.parse("2025-03-11T00:00:00Z");
+        LocalDate nextDay = mapper.toResponse(customer(3L, 40)).getEstimatedLifeExpectancy();
+
+        // Then
+        assertSame(first, second);
+        assertEquals(LocalDate.of(2058, 3, 10), first);
+        assertEquals(LocalDate.of(2058, 3, 11), nextDay);
+        assertEquals(LocalDate.of(2025, 3, 11), mapper.today());
+    }
+
+    @Test
+    void toResponse_WithFields_ComputesOnlyRequestedDerivedFields() {
+        // Given
+        CustomerResponseMapper mapper = new CustomerResponseMapper(Clock.systemUTC());
+
+        // When
+        CustomerResponseDto response = mapper.toResponse(customer(1L, 30), CustomerField.parse("id,fullName"));
+
+        // Then
+        assertEquals(1L, response.getId());
+        assertEquals("John1 Doe", response.getFullName());
+        assertNull(response.getFirstName());
+        assertNull(response.getEstimatedLifeExpectancy());
+    }
+
+    @Test
+    void toResponses_StaysWithinPageAllocationBudget() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        assumeTrue(threads instanceof com.sun.management.ThreadMXBean, "Thread allocation counters not available");
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled(),
+                "Thread allocation counters not enabled");
+
+        // Given
+        CustomerResponseMapper mapper = new CustomerResponseMapper(Clock.systemUTC());
+        List<Customer> page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(customer((long) i, 18 + i % 60));
+        }
+        for (int i = 0; i < 20_000; i++) {
+            mapper.toResponses(page);
+        }
+
+        // When
+        long threadId = Thread.currentThread().threadId();
+        long smallest = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            List<CustomerResponseDto> responses = mapper.toResponses(page);
+            long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+            assertEquals(PAGE_SIZE, responses.size());
+            smallest = Math.min(smallest, allocated);
+        }
+
+        // Then
+        long budget = PAGE_ALLOCATION_BUDGET;
+        assertTrue(smallest <= budget, "Mapping a page of " + PAGE_SIZE + " allocated " + smallest
+                + " bytes, budget is " + budget);
+    }
+
+    private static Customer customer(Long id, int age) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 3, 10, 0, 0);
+        return Customer.builder()
+                .id(id)
+                .firstName("John" + id)
+                .lastName("Doe")
+                .age(age)
+                .birthDate(LocalDate.of(2025 - age, 1, 1))
+                .isDeleted(false)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.CustomerFilterDto;
+import com.seek.test.seek_test.entity.Customer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class CustomerScanEngineTest {
+
+    private CustomerSnapshotStore store;
+    private CustomerColumnStore columnStore;
+    private CustomerScanEngine scanEngine;
+
+    @BeforeEach
+    void setUp() {
+        store = new CustomerSnapshotStore();
+        columnStore = new CustomerColumnStore(store);
+        columnStore.register();
+        scanEngine = new CustomerScanEngine(columnStore);
+    }
+
+    @Test
+    void scan_WithoutFilter_AggregatesAllActiveCustomers() {
+        // Given
+        store.replaceAll(List.of(
+                entry(1L, 30, LocalDate.of(1994, 1, 15)),
+                entry(2L, 25, LocalDate.of(1999, 3, 20)),
+                entry(3L, 35, LocalDate.of(1989, 7, 10)),
+                entry(4L, 28, LocalDate.of(1996, 11, 5))
+        ), LocalDateTime.now());
+
+        // When
+        CustomerScanEngine.AgeHistogram result = scanEngine.scan(new CustomerFilterDto());
+
+        // Then
+        assertEquals(4, result.count());
+        assertEquals(118, result.sum());
+        assertEquals(25, result.min());
+        assertEquals(35, result.max());
+        assertEquals(29.0, result.median());
+        assertEquals(29.5, result.average());
+        assertEquals(Math.sqrt((900 + 625 + 1225 + 784) / 4.0 - 29.5 * 29.5), result.standardDeviation(), 1e-9);
+    }
+
+    @Test
+    void scan_WithAgeAndBirthDateRange_OnlyCountsMatchingCustomers() {
+        // Given
+        store.replaceAll(List.of(
+                entry(1L, 30, LocalDate.of(1994, 1, 15)),
+                entry(2L, 25, LocalDate.of(1999, 3, 20)),
+                entry(3L, 35, LocalDate.of(1989, 7, 10)),
+                entry(4L, 28, LocalDate.of(1996, 11, 5))
+        ), LocalDateTime.now());
+        CustomerFilterDto filter = CustomerFilterDto.builder()
+                .minAge(26)
+                .birthDateFrom(LocalDate.of(1990, 1, 1))
+                .build();
+
+        // When
+        CustomerScanEngine.AgeHistogram result = scanEngine.scan(filter);
+
+        // Then
+        assertEquals(2, result.count());
+        assertEquals(28, result.min());
+        assertEquals(30, result.max());
+        assertEquals(29.0, result.median());
+    }
+
+    @Test
+    void scan_AfterRemovingCustomer_IgnoresFreedSlot() {
+        // Given
+        store.replaceAll(List.of(
+                entry(1L, 30, LocalDate.of(1994, 1, 15)),
+                entry(2L, 25, LocalDate.of(1999, 3, 20))
+        ), LocalDateTime.now());
+        Customer deleted = Customer.builder()
+                .id(1L).firstName("John").lastName("Doe").age(30)
+                .birthDate(LocalDate.of(1994, 1, 15)).isDeleted(true)
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        // When
+        store.apply(deleted);
+        CustomerScanEngine.AgeHistogram result = scanEngine.scan(new CustomerFilterDto());
+
+        // Then
+        assertEquals(1, result.count());
+        assertEquals(25, result.min());
+        assertEquals(25, result.max());
+    }
+
+    @Test
+    void scan_LargeColumns_ForkJoinMatchesNaiveComputation() {
+        // Given
+        Random random = new Random(42);
+        int size = CustomerScanEngine.SPLIT_THRESHOLD * 4 + 123;
+        List<CustomerSnapshotStore.Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int age = random.nextInt(100);
+            entries.add(entry((long) i + 1, age, LocalDate.of(1925 + random.nextInt(100), 1 + random.nextInt(12), 1)));
+        }
+        store.replaceAll(entries, LocalDateTime.now());
+        CustomerFilterDto filter = CustomerFilterDto.builder()
+                .minAge(20)
+                .maxAge(60)
+                .birthYearFrom(1950)
+                .birthYearTo(2000)
+                .build();
+
+        long expectedCount = 0;
+        long expectedSum = 0;
+        for (CustomerSnapshotStore.Entry entry : entries) {
+            int year = entry.birthDate().getYear();
+            if (entry.age() >= 20 && entry.age() <= 60 && year >= 1950 && year <= 2000) {
+                expectedCount++;
+                expectedSum += entry.age();
+            }
+        }
+
+        // When
+        CustomerScanEngine.AgeHistogram result = scanEngine.scan(filter);
+
+        // Then
+        assertEquals(expectedCount, result.count());
+        assertEquals(expectedSum, result.sum());
+    }
+
+    @Test
+    void scan_WithCreatedRangeAndLastNamePrefix_OnlyCountsMatchingCustomers() {
+        // Given
+        LocalDateTime created = LocalDateTime.of(2025, 1, 10, 12, 0, 0);
+        store.replaceAll(List.of(
+                entry(1L, 30, "García", created.minusDays(5)),
+                entry(2L, 25, "garrido", created),
+                entry(3L, 35, "Gómez", created),
+                entry(4L, 28, "Garza", created.plusDays(5))
+        ), LocalDateTime.now());
+        CustomerFilterDto filter = CustomerFilterDto.builder()
+                .createdFrom(created.minusDays(1))
+                .createdTo(created.plusDays(10))
+                .lastNamePrefix("GAR")
+                .build();
+
+        // When
+        CustomerScanEngine.AgeHistogram result = scanEngine.scan(filter);
+
+        // Then
+        assertEquals(2, result.count());
+        assertEquals(25, result.min());
+        assertEquals(28, result.max());
+    }
+
+    @Test
+    void estimate_WithSelectiveFilter_ReturnsLowSelectivity() {
+        // Given
+        List<CustomerSnapshotStore.Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            entries.add(entry((long) i + 1, i % 97, LocalDate.of(1990, 1, 1)));
+        }
+        store.replaceAll(entries, LocalDateTime.now());
+
+        // When
+        CustomerScanEngine.Estimate broad = scanEngine.estimate(new CustomerFilterDto(), 1000);
+        CustomerScanEngine.Estimate selective = scanEngine.estimate(
+                CustomerFilterDto.builder().minAge(10).maxAge(10).build(), 1000);
+
+        // Then
+        assertEquals(10_000, broad.activeRows());
+        assertEquals(1.0, broad.selectivity(), 1e-9);
+        assertEquals(0.01, selective.selectivity(), 0.005);
+    }
+
+    @Test
+    void scanRange_VectorPathMatchesScalarPath() {
+        assumeTrue(CustomerScanEngine.VECTOR_API_AVAILABLE, "Run with --add-modules jdk.incubator.vector");
+
+        // Given: a row count that does not fill the last vector, and freed slots in between
+        Random random = new Random(7);
+        String[] lastNames = {"García", "garrido", "Gómez", "Garza", "Ortiz"};
+        LocalDateTime epoch = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        int size = 10_000 + 13;
+        List<CustomerSnapshotStore.Entry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime created = epoch.plusSeconds(random.nextInt(5 * 365 * 24 * 3600));
+            entries.add(new CustomerSnapshotStore.Entry((long) i + 1, "First" + i, lastNames[random.nextInt(lastNames.length)],
+                    random.nextInt(120), LocalDate.of(1905 + random.nextInt(120), 1 + random.nextInt(12), 1 + random.nextInt(28)),
+                    created, created));
+        }
+        store.replaceAll(entries, LocalDateTime.now());
+        for (int i = 0; i < size; i += 7) {
+            store.apply(Customer.builder().id((long) i + 1).isDeleted(true).updatedAt(LocalDateTime.now()).build());
+        }
+
+        for (int round = 0; round < 200; round++) {
+            CustomerFilterDto filter = CustomerFilterDto.builder()
+                    .minAge(random.nextBoolean() ? random.nextInt(60) : null)
+                    .maxAge(random.nextBoolean() ? 40 + random.nextInt(300) : null)
+                    .birthYearFrom(random.nextBoolean() ? 1900 + random.nextInt(80) : null)
+                    .birthYearTo(random.nextBoolean() ? 1950 + random.nextInt(80) : null)
+                    .createdFrom(random.nextBoolean() ? epoch.plusDays(random.nextInt(900)) : null)
+                    .createdTo(random.nextBoolean() ? epoch.plusDays(900 + random.nextInt(900)) : null)
+                    .lastNamePrefix(random.nextInt(4) == 0 ? "gar" : null)
+                    .build();
+            CustomerScanEngine.Predicate predicate = CustomerScanEngine.toPredicate(filter);
+
+            // When & Then: whole columns and an unaligned range
+            columnStore.read(columns -> {
+                for (int[] range : new int[][]{{0, columns.length()}, {3, columns.length() - 5}}) {
+                    long[] scalar = new long[CustomerScanEngine.HISTOGRAM_SIZE];
+                    long[] vector = new long[CustomerScanEngine.HISTOGRAM_SIZE];
+                    CustomerScanEngine.scalarScanRange(columns, range[0], range[1], predicate, scalar);
+                    CustomerVectorScan.scanRange(columns, range[0], range[1], predicate, vector);
+                    assertArrayEquals(scalar, vector, "Histograms differ for " + filter);
+                }
+                return null;
+            });
+        }
+    }
+
+    private CustomerSnapshotStore.Entry entry(Long id, int age, String lastName, LocalDateTime createdAt) {
+        return new CustomerSnapshotStore.Entry(id, "First" + id, lastName, age, LocalDate.of(1990, 1, 1),
+                createdAt, createdAt);
+    }
+
+    private CustomerSnapshotStore.Entry entry(Long id, int age, LocalDate birthDate) {
+        return new CustomerSnapshotStore.Entry(id, "First" + id, "Last" + id, age, birthDate,
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+}
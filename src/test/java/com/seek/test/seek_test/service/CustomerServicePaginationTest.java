@@ -1,25 +1,34 @@
 package com.seek.test.seek_test.service;
 
+import com.seek.test.seek_test.dto.CustomerField;
 import com.seek.test.seek_test.dto.CustomerPageResponseDto;
+import com.seek.test.seek_test.dto.CustomerResponseDto;
 import com.seek.test.seek_test.entity.Customer;
 import com.seek.test.seek_test.repository.CustomerRepository;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +40,9 @@ class CustomerServicePaginationTest {
     @Mock
     private MonitoringService monitoringService;
 
+    @Spy
+    private CustomerResponseMapper customerResponseMapper = new CustomerResponseMapper(Clock.systemDefaultZone());
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -225,6 +237,52 @@ class CustomerServicePaginationTest {
         assertEquals(3, result.getTotalPages());
     }
 
+    @Test
+    void testPaginationWithSparseFieldsSelectsOnlyNeededColumns() {
+        // Given
+        Set<CustomerField> fields = CustomerField.parse("id,fullName");
+        Set<String> attributes = Set.of("id", "firstName", "lastName");
+        List<Tuple> rows = sampleCustomers.subList(0, 5).stream()
+            .map(customer -> row(customer.getId(), customer.getFirstName(), customer.getLastName()))
+            .toList();
+
+        when(customerRepository.countByIsDeletedFalse()).thenReturn((long) sampleCustomers.size());
+        when(customerRepository.findActiveAttributes(attributes, PageRequest.of(1, 5))).thenReturn(rows);
+
+        // When
+        CustomerPageResponseDto result = customerService.getAllCustomersPaginated(2, 5, fields);
+
+        // Then
+        assertEquals(2, result.getPageNumber());
+        assertEquals(12, result.getTotalElements());
+        assertEquals(3, result.getTotalPages());
+        assertTrue(result.isHasNext());
+        CustomerResponseDto first = result.getContent().get(0);
+        assertEquals(1L, first.getId());
+        assertEquals("John Doe", first.getFullName());
+        assertNull(first.getFirstName());
+        assertNull(first.getAge());
+        assertNull(first.getEstimatedLifeExpectancy());
+        verify(customerRepository, never()).findByIsDeletedFalse(any(Pageable.class));
+    }
+
+    @Test
+    void testParseFieldsRejectsUnknownField() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> CustomerField.parse("id,password"));
+        assertTrue(exception.getMessage().startsWith("Unknown customer field: password"));
+        assertNull(CustomerField.parse(" "));
+    }
+
+    private Tuple row(Long id, String firstName, String lastName) {
+        Tuple row = mock(Tuple.class);
+        when(row.get("id", Long.class)).thenReturn(id);
+        when(row.get("firstName", String.class)).thenReturn(firstName);
+        when(row.get("lastName", String.class)).thenReturn(lastName);
+        return row;
+    }
+
     private Customer createCustomer(Long id, String firstName, String lastName, int age) {
         return Customer.builder()
             .id(id)
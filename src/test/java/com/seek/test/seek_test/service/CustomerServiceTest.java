@@ -1,5 +1,8 @@
 package com.seek.test.seek_test.service;
 
+import com.seek.test.seek_test.dto.CustomerBatchResponseDto;
+import com.seek.test.seek_test.dto.CustomerCountResponseDto;
+import com.seek.test.seek_test.dto.CustomerFilterDto;
 import com.seek.test.seek_test.dto.CustomerRequestDto;
 import com.seek.test.seek_test.dto.CustomerResponseDto;
 import com.seek.test.seek_test.dto.DeleteResponseDto;
@@ -12,15 +15,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +44,15 @@ class CustomerServiceTest {
     @Mock
     private MonitoringService monitoringService;
 
+    @Mock
+    private CustomerBitmapIndex customerBitmapIndex;
+
+    @Spy
+    private CustomerSnapshotStore customerSnapshotStore = new CustomerSnapshotStore();
+
+    @Spy
+    private CustomerResponseMapper customerResponseMapper = new CustomerResponseMapper(Clock.systemDefaultZone());
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -177,4 +198,173 @@ class CustomerServiceTest {
         verify(customerRepository).findByIdAndIsDeletedFalse(1L);
         verify(customerRepository).save(any(Customer.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void streamCustomers_MapsEachCustomerInCursorOrder() {
+        // Given
+        Customer secondCustomer = Customer.builder()
+            .id(2L)
+            .firstName("Ana")
+            .lastName("Gómez")
+            .age(25)
+            .birthDate(LocalDate.now().minusYears(25))
+            .isDeleted(false)
+            .build();
+        CustomerFilterDto filter = CustomerFilterDto.builder().minAge(20).build();
+        when(customerRepository.forEachActive(eq(filter), anyInt(), any())).thenAnswer(invocation -> {
+            Consumer<Customer> action = invocation.getArgument(2);
+            action.accept(testCustomer);
+            action.accept(secondCustomer);
+            return 2L;
+        });
+        List<CustomerResponseDto> received = new ArrayList<>();
+
+        // When
+        long streamed = customerService.streamCustomers(filter, received::add);
+
+        // Then
+        assertEquals(2, streamed);
+        assertEquals(2, received.size());
+        assertEquals("Juan Pérez", received.get(0).getFullName());
+        assertEquals(2L, received.get(1).getId());
+        assertNotNull(received.get(1).getEstimatedLifeExpectancy());
+        verify(monitoringService).recordCustomerRetrieved();
+    }
+
+    @Test
+    void getCustomersBatch_ServesStoreHitsAndQueriesMissesInChunks() {
+        // Given
+        ReflectionTestUtils.setField(customerService, "maxBatchIds", 10);
+        ReflectionTestUtils.setField(customerService, "batchChunkSize", 2);
+        customerSnapshotStore.replaceAll(List.of(new CustomerSnapshotStore.Entry(
+                1L, "Juan", "Pérez", 30, testCustomer.getBirthDate(), LocalDateTime.now(), LocalDateTime.now())),
+                LocalDateTime.now());
+        customerSnapshotStore.markReady();
+        Customer thirdCustomer = Customer.builder()
+            .id(3L)
+            .firstName("Ana")
+            .lastName("Gómez")
+            .age(25)
+            .birthDate(LocalDate.now().minusYears(25))
+            .isDeleted(false)
+            .build();
+        when(customerRepository.findByIdInAndIsDeletedFalse(List.of(3L, 2L))).thenReturn(List.of(thirdCustomer));
+        when(customerRepository.findByIdInAndIsDeletedFalse(List.of(4L))).thenReturn(List.of());
+
+        // When
+        CustomerBatchResponseDto result = customerService.getCustomersBatch(List.of(3L, 2L, 1L, 4L, 3L));
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L, 4L, 3L), result.getResults().stream().map(item -> item.getId()).toList());
+        assertEquals(List.of(true, false, true, false, true), result.getResults().stream().map(item -> item.isFound()).toList());
+        assertEquals("Juan Pérez", result.getResults().get(2).getCustomer().getFullName());
+        assertEquals("Ana Gómez", result.getResults().get(0).getCustomer().getFullName());
+        assertEquals(3, result.getFound());
+        assertEquals(2, result.getNotFound());
+        verify(customerRepository, never()).findByIdInAndIsDeletedFalse(List.of(1L));
+    }
+
+    @Test
+    void deleteCustomer_ThenBatchGet_DoesNotServeDeletedCustomerFromStore() {
+        // Given
+        customerSnapshotStore.replaceAll(List.of(new CustomerSnapshotStore.Entry(
+                1L, "Juan", "Pérez", 30, testCustomer.getBirthDate(), LocalDateTime.now(), LocalDateTime.now())),
+                LocalDateTime.now());
+        customerSnapshotStore.markReady();
+        ReflectionTestUtils.setField(customerService, "maxBatchIds", 10);
+        ReflectionTestUtils.setField(customerService, "batchChunkSize", 10);
+        when(customerRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCustomer));
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(customerRepository.findByIdInAndIsDeletedFalse(List.of(1L))).thenReturn(List.of());
+
+        // When
+        customerService.deleteCustomer(1L);
+        CustomerBatchResponseDto result = customerService.getCustomersBatch(List.of(1L));
+
+        // Then
+        assertFalse(result.getResults().get(0).isFound());
+        assertEquals(0, customerSnapshotStore.size());
+    }
+
+    @Test
+    void updateCustomer_InTransaction_UpdatesStoreOnlyAfterCommit() {
+        // Given
+        customerSnapshotStore.replaceAll(List.of(new CustomerSnapshotStore.Entry(
+                1L, "Juan", "Pérez", 30, testCustomer.getBirthDate(), LocalDateTime.now(), LocalDateTime.now())),
+                LocalDateTime.now());
+        customerSnapshotStore.markReady();
+        CustomerRequestDto updateRequest = CustomerRequestDto.builder()
+            .firstName("Juan Updated")
+            .lastName("Pérez")
+            .age(30)
+            .birthDate(testCustomer.getBirthDate())
+            .build();
+        when(customerRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(testCustomer));
+        when(customerRepository.save(any(Customer.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            customerService.updateCustomer(1L, updateRequest);
+            String beforeCommit = customerSnapshotStore.get(1L).orElseThrow().firstName();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertEquals("Juan", beforeCommit);
+            assertEquals("Juan Updated", customerSnapshotStore.get(1L).orElseThrow().firstName());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getCustomersBatch_TooManyIds_ThrowsException() {
+        // Given
+        ReflectionTestUtils.setField(customerService, "maxBatchIds", 2);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> customerService.getCustomersBatch(List.of(1L, 2L, 3L)));
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void countCustomers_StoreReady_AnswersFromBitmapIndex() {
+        // Given
+        ReflectionTestUtils.setField(customerService, "maxMatchingIds", 2);
+        customerSnapshotStore.markReady();
+        CustomerFilterDto filter = CustomerFilterDto.builder().minAge(30).build();
+        when(customerBitmapIndex.match(filter, true, 2))
+            .thenReturn(new CustomerBitmapIndex.Match(3, List.of(1L, 2L), true));
+
+        // When
+        CustomerCountResponseDto result = customerService.countCustomers(filter, true);
+
+        // Then
+        assertEquals(3, result.getCount());
+        assertEquals(List.of(1L, 2L), result.getCustomerIds());
+        assertTrue(result.isIdsTruncated());
+        assertEquals("BITMAP_INDEX", result.getSource());
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void countCustomers_StoreNotReady_FallsBackToDatabaseWithFilterDefaults() {
+        // Given
+        ReflectionTestUtils.setField(customerService, "maxMatchingIds", 2);
+        CustomerFilterDto filter = CustomerFilterDto.builder().minAge(30).birthYearTo(1990).build();
+        List<Integer> allMonths = List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        when(customerRepository.countFiltered(30, 150, allMonths, 0, 1990)).thenReturn(3L);
+        when(customerRepository.findIdsFiltered(eq(30), eq(150), eq(allMonths), eq(0), eq(1990), any()))
+            .thenReturn(List.of(4L, 5L));
+
+        // When
+        CustomerCountResponseDto result = customerService.countCustomers(filter, true);
+
+        // Then
+        assertEquals(3, result.getCount());
+        assertEquals(List.of(4L, 5L), result.getCustomerIds());
+        assertTrue(result.isIdsTruncated());
+        assertEquals("DATABASE", result.getSource());
+        verifyNoInteractions(customerBitmapIndex);
+    }
+}
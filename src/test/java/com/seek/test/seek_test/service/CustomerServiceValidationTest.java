@@ -8,8 +8,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +27,12 @@ class CustomerServiceValidationTest {
     @Mock
     private MonitoringService monitoringService;
 
+    @Mock
+    private CustomerSnapshotStore customerSnapshotStore;
+
+    @Spy
+    private CustomerResponseMapper customerResponseMapper = new CustomerResponseMapper(Clock.systemDefaultZone());
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -0,0 +1,146 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.config.CustomerSnapshotProperties;
+import com.seek.test.seek_test.entity.Customer;
+import com.seek.test.seek_test.repository.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSnapshotServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private CustomerSnapshotProperties properties;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CustomerSnapshotProperties();
+        properties.setEnabled(true);
+        properties.setPath(tempDir.resolve("customer-snapshot.bin").toString());
+        now = LocalDateTime.of(2025, 1, 3, 10, 0, 0);
+    }
+
+    @Test
+    void warmUp_WithoutSnapshot_LoadsFromDatabaseAndWritesFile() {
+        // Given
+        CustomerSnapshotStore store = new CustomerSnapshotStore();
+        CustomerSnapshotService service = new CustomerSnapshotService(customerRepository, store, properties);
+        when(customerRepository.findByIsDeletedFalse()).thenReturn(Arrays.asList(
+                createCustomer(1L, "John", "Doe", 30, now.minusDays(1)),
+                createCustomer(2L, "José", "Núñez", 25, now)
+        ));
+
+        // When
+        service.warmUp();
+
+        // Then
+        assertTrue(store.isReady());
+        assertEquals(2, store.size());
+        assertEquals(now, store.getWatermark());
+        assertTrue(Files.exists(Path.of(properties.getPath())));
+        verify(customerRepository, never()).findByUpdatedAtGreaterThanEqual(any());
+    }
+
+    @Test
+    void warmUp_WithSnapshot_MapsFileAndCatchesUpOnlyChangedRows() {
+        // Given
+        CustomerSnapshotStore firstStore = new CustomerSnapshotStore();
+        when(customerRepository.findByIsDeletedFalse()).thenReturn(Arrays.asList(
+                createCustomer(1L, "John", "Doe", 30, now.minusDays(1)),
+                createCustomer(2L, "José", "Núñez", 25, now)
+        ));
+        new CustomerSnapshotService(customerRepository, firstStore, properties).warmUp();
+
+        Customer deleted = createCustomer(1L, "John", "Doe", 30, now.plusMinutes(1));
+        deleted.setIsDeleted(true);
+        Customer created = createCustomer(3L, "Jane", "Smith", 28, now.plusMinutes(2));
+        when(customerRepository.findByUpdatedAtGreaterThanEqual(any(LocalDateTime.class)))
+                .thenReturn(List.of(deleted, created));
+
+        CustomerSnapshotStore restartedStore = new CustomerSnapshotStore();
+
+        // When
+        new CustomerSnapshotService(customerRepository, restartedStore, properties).warmUp();
+
+        // Then
+        verify(customerRepository, times(1)).findByIsDeletedFalse();
+        assertTrue(restartedStore.isReady());
+        assertEquals(2, restartedStore.size());
+        assertTrue(restartedStore.get(1L).isEmpty());
+        assertEquals("Núñez", restartedStore.get(2L).orElseThrow().lastName());
+        assertEquals(LocalDate.now().minusYears(25), restartedStore.get(2L).orElseThrow().birthDate());
+        assertEquals(now, restartedStore.get(2L).orElseThrow().updatedAt());
+        assertEquals(now.plusMinutes(2), restartedStore.getWatermark());
+    }
+
+    @Test
+    void warmUp_WithCorruptSnapshot_FallsBackToFullLoad() throws Exception {
+        // Given
+        Files.write(Path.of(properties.getPath()), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        CustomerSnapshotStore store = new CustomerSnapshotStore();
+        when(customerRepository.findByIsDeletedFalse()).thenReturn(Collections.emptyList());
+
+        // When
+        new CustomerSnapshotService(customerRepository, store, properties).warmUp();
+
+        // Then
+        assertTrue(store.isReady());
+        assertEquals(0, store.size());
+        verify(customerRepository, times(1)).findByIsDeletedFalse();
+    }
+
+    @Test
+    void catchUp_AfterCommittedLocalWrite_KeepsNewerEntryAndWatermark() {
+        // Given
+        CustomerSnapshotStore store = new CustomerSnapshotStore();
+        CustomerSnapshotService service = new CustomerSnapshotService(customerRepository, store, properties);
+        Customer original = createCustomer(1L, "John", "Doe", 30, now);
+        when(customerRepository.findByIsDeletedFalse()).thenReturn(List.of(original));
+        service.warmUp();
+        store.applyCommitted(createCustomer(1L, "Johnny", "Doe", 30, now.plusSeconds(2)));
+        // The poll read the row before the local write committed
+        when(customerRepository.findByUpdatedAtGreaterThanEqual(any())).thenReturn(List.of(original));
+
+        // When
+        service.catchUp();
+
+        // Then
+        assertEquals("Johnny", store.get(1L).orElseThrow().firstName());
+        assertEquals(now, store.getWatermark());
+    }
+
+    private Customer createCustomer(Long id, String firstName, String lastName, int age, LocalDateTime updatedAt) {
+        return Customer.builder()
+                .id(id)
+                .firstName(firstName)
+                .lastName(lastName)
+                .age(age)
+                .birthDate(LocalDate.now().minusYears(age))
+                .isDeleted(false)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
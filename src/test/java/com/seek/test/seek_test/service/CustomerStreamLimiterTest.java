@@ -0,0 +1,52 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.exception.CustomerStreamRejectedException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerStreamLimiterTest {
+
+    private final CustomerStreamLimiter limiter = new CustomerStreamLimiter(2, 5);
+
+    @Test
+    void acquire_AtMaximumConcurrentStreams_RejectsWithRetryAfter() {
+        // Given
+        limiter.acquire();
+        limiter.acquire();
+
+        // When
+        CustomerStreamRejectedException exception = assertThrows(CustomerStreamRejectedException.class, limiter::acquire);
+
+        // Then
+        assertEquals(5, exception.getRetryAfterSeconds());
+        assertEquals(0, limiter.availablePermits());
+    }
+
+    @Test
+    void release_AfterStreamEnds_AdmitsNextStream() {
+        // Given
+        CustomerStreamLimiter.Permit permit = limiter.acquire();
+        limiter.acquire();
+
+        // When
+        permit.release();
+
+        // Then
+        assertDoesNotThrow(limiter::acquire);
+        assertThrows(CustomerStreamRejectedException.class, limiter::acquire);
+    }
+
+    @Test
+    void release_CalledTwiceForSameStream_GivesBackOnePermit() {
+        // Given
+        CustomerStreamLimiter.Permit permit = limiter.acquire();
+
+        // When
+        permit.release();
+        permit.release();
+
+        // Then
+        assertEquals(2, limiter.availablePermits());
+    }
+}
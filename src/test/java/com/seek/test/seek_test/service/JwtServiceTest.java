@@ -11,6 +11,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -179,4 +180,30 @@ class JwtServiceTest {
         assertNotNull(token);
         assertFalse(token.isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void generateToken_WithRolesAndCredentialEpoch_ClaimsSurviveParsing() {
+        // Given
+        String token = jwtService.generateToken(testUsername, List.of("ROLE_USER"), 7L);
+
+        // When
+        Claims claims = jwtService.parseToken(token);
+
+        // Then
+        assertEquals(testUsername, claims.getSubject());
+        assertEquals(List.of("ROLE_USER"), claims.get(JwtService.ROLES_CLAIM));
+        assertEquals(7L, claims.get(JwtService.CREDENTIAL_EPOCH_CLAIM, Number.class).longValue());
+    }
+
+    @Test
+    void parseToken_TokenSignedWithOtherKey_Throws() {
+        // Given
+        JwtService otherService = new JwtService();
+        ReflectionTestUtils.setField(otherService, "secretKey", "another-secret-key-with-enough-length-for-hs256-signing");
+        ReflectionTestUtils.setField(otherService, "jwtExpiration", testExpiration);
+        String forged = otherService.generateToken(testUsername, List.of("ROLE_ADMIN"), 0L);
+
+        // When & Then
+        assertThrows(Exception.class, () -> jwtService.parseToken(forged));
+    }
+}
@@ -0,0 +1,92 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.config.LoginExecutorProperties;
+import com.seek.test.seek_test.exception.LoginRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LoginExecutor loginExecutor;
+
+    @BeforeEach
+    void setUp() {
+        LoginExecutorProperties properties = new LoginExecutorProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        properties.setTimeoutMs(2000L);
+        properties.setRetryAfterSeconds(3L);
+        meterRegistry = new SimpleMeterRegistry();
+        loginExecutor = new LoginExecutor(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginExecutor.shutdown();
+    }
+
+    @Test
+    void execute_ReturnsResultAndRecordsTimers() {
+        // When
+        String result = loginExecutor.execute(() -> "authenticated");
+
+        // Then
+        assertEquals("authenticated", result);
+        assertEquals(1, meterRegistry.get("auth.login.execution.time").timer().count());
+        assertEquals(1, meterRegistry.get("auth.login.queue.wait").timer().count());
+    }
+
+    @Test
+    void execute_AuthenticationFailure_IsPropagatedUnchanged() {
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> loginExecutor.execute(() -> {
+            throw new BadCredentialsException("Bad credentials");
+        }));
+    }
+
+    @Test
+    void execute_WhenSaturated_RejectsImmediately() throws Exception {
+        // Given: the only thread is busy and the only queue slot is taken
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> loginExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> loginExecutor.execute(() -> "second"));
+        while (meterRegistry.get("auth.login.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        LoginRejectedException exception = assertThrows(LoginRejectedException.class,
+                () -> loginExecutor.execute(() -> "third"));
+
+        // Then
+        assertEquals(3L, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.login.rejected").counter().count());
+        release.countDown();
+        assertEquals("first", running.get(1, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(1, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.entity.RefreshToken;
+import com.seek.test.seek_test.entity.User;
+import com.seek.test.seek_test.exception.InvalidRefreshTokenException;
+import com.seek.test.seek_test.repository.RefreshTokenRepository;
+import com.seek.test.seek_test.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpiration", 60_000L);
+        testUser = new User("john", "$2a$10$encoded.password.hash");
+        testUser.setId(2L);
+        testUser.setCredentialEpoch(1L);
+    }
+
+    @Test
+    void issue_StoresOnlyTheHashOfTheToken() {
+        // Given
+        when(userRepository.findByUsernameAndIsActiveTrue("john")).thenReturn(Optional.of(testUser));
+
+        // When
+        String rawToken = refreshTokenService.issue("john");
+
+        // Then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken stored = captor.getValue();
+        assertNotEquals(rawToken, stored.getTokenHash());
+        assertEquals(RefreshTokenService.hash(rawToken), stored.getTokenHash());
+        assertEquals(1L, stored.getCredentialEpoch());
+        assertFalse(stored.getRevoked());
+    }
+
+    @Test
+    void rotate_ValidToken_ConsumesItAndIssuesOneOfTheSameFamily() {
+        // Given
+        RefreshToken token = storedToken("raw-token", 1L);
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw-token"))).thenReturn(Optional.of(token));
+        when(refreshTokenRepository.consume(10L)).thenReturn(1);
+
+        // When
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("raw-token");
+
+        // Then
+        assertSame(testUser, rotation.user());
+        assertNotEquals("raw-token", rotation.refreshToken());
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertEquals("family-1", captor.getValue().getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    void rotate_AlreadyUsedToken_RevokesWholeFamily() {
+        // Given
+        RefreshToken token = storedToken("raw-token", 1L);
+        token.setRevoked(true);
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw-token"))).thenReturn(Optional.of(token));
+
+        // When & Then
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("raw-token"));
+        verify(refreshTokenRepository, times(1)).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rotate_AfterPasswordChange_RejectsToken() {
+        // Given
+        RefreshToken token = storedToken("raw-token", 0L);
+        when(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash("raw-token"))).thenReturn(Optional.of(token));
+        when(refreshTokenRepository.consume(10L)).thenReturn(1);
+
+        // When & Then
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("raw-token"));
+        verify(refreshTokenRepository, times(1)).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rotate_UnknownToken_Throws() {
+        // Given
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.rotate("unknown"));
+    }
+
+    private RefreshToken storedToken(String rawToken, Long credentialEpoch) {
+        RefreshToken token = new RefreshToken(testUser, RefreshTokenService.hash(rawToken), "family-1",
+                credentialEpoch, LocalDateTime.now().plusMinutes(5));
+        token.setId(10L);
+        return token;
+    }
+}
@@ -0,0 +1,84 @@
+package com.seek.test.seek_test.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void tryConsume_AllowsBurstUpToCapacityThenRejects() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, 1.0, 0L);
+
+        // When
+        TokenBucket.Result first = bucket.tryConsume(0L);
+        bucket.tryConsume(0L);
+        TokenBucket.Result third = bucket.tryConsume(0L);
+        TokenBucket.Result fourth = bucket.tryConsume(0L);
+
+        // Then
+        assertTrue(first.allowed());
+        assertEquals(2, first.remaining());
+        assertTrue(third.allowed());
+        assertEquals(0, third.remaining());
+        assertFalse(fourth.allowed());
+        assertEquals(SECOND, fourth.retryAfterNanos());
+        assertEquals(3 * SECOND, fourth.resetAfterNanos());
+    }
+
+    @Test
+    void tryConsume_RefillsAtConfiguredRate() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, 2.0, 0L);
+        bucket.tryConsume(0L);
+        bucket.tryConsume(0L);
+
+        // When & Then
+        assertFalse(bucket.tryConsume(SECOND / 4).allowed());
+        assertTrue(bucket.tryConsume(SECOND / 2).allowed());
+        assertFalse(bucket.tryConsume(SECOND / 2).allowed());
+        assertEquals(1, bucket.tryConsume(10 * SECOND).remaining());
+    }
+
+    @Test
+    void tryConsume_ConcurrentCallers_NeverExceedCapacity() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(1000, 0.001, 0L);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (bucket.tryConsume(0L).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // When
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(1000, allowed.get());
+    }
+}
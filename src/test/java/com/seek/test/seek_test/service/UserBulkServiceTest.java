@@ -0,0 +1,110 @@
+package com.seek.test.seek_test.service;
+
+import com.seek.test.seek_test.dto.BulkUserActionRequestDto;
+import com.seek.test.seek_test.dto.BulkUserActionResponseDto;
+import com.seek.test.seek_test.dto.UserFilterDto;
+import com.seek.test.seek_test.entity.User;
+import com.seek.test.seek_test.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserBulkService userBulkService;
+
+    @BeforeEach
+    void setUp() {
+        userBulkService = new UserBulkService(userRepository, eventPublisher, transactionManager, 2);
+    }
+
+    @Test
+    void apply_DeactivateByIds_UpdatesInChunksAndRevokesOnlyActiveUsers() {
+        // Given
+        User john = createUser(1L, "john", true, 0L);
+        User jane = createUser(2L, "jane", false, 1L);
+        User jim = createUser(3L, "jim", true, 2L);
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(john, jane));
+        when(userRepository.findAllById(List.of(3L))).thenReturn(List.of(jim));
+        when(userRepository.deactivateByIds(eq(List.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(1);
+        when(userRepository.deactivateByIds(eq(List.of(3L)), any(LocalDateTime.class))).thenReturn(1);
+
+        // When
+        BulkUserActionResponseDto result = userBulkService.apply(UserBulkService.Action.DEACTIVATE,
+                new BulkUserActionRequestDto(List.of(1L, 2L, 3L, 1L)));
+
+        // Then
+        assertEquals("DEACTIVATED", result.getAction());
+        assertEquals(2, result.getAffectedUsers());
+        assertEquals(2, result.getChunks());
+        verify(eventPublisher).publishEvent(new UserCredentialsBatchChangedEvent(
+                List.of(new UserCredentialsChangedEvent("john", 1L, false))));
+        verify(eventPublisher).publishEvent(new UserCredentialsBatchChangedEvent(
+                List.of(new UserCredentialsChangedEvent("jim", 3L, false))));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void apply_DeleteByFilter_WalksKeysetUntilLastChunk() {
+        // Given
+        BulkUserActionRequestDto request = new BulkUserActionRequestDto();
+        request.setUsernamePrefix("partner-");
+        UserFilterDto filter = request.toFilter();
+        User first = createUser(10L, "partner-a", true, 0L);
+        User second = createUser(11L, "partner-b", false, 4L);
+        User third = createUser(15L, "partner-c", true, 1L);
+        when(userRepository.findFilteredAfter(filter, null, 2)).thenReturn(List.of(first, second));
+        when(userRepository.findFilteredAfter(filter, 11L, 2)).thenReturn(List.of(third));
+        when(userRepository.deleteByIds(List.of(10L, 11L))).thenReturn(2);
+        when(userRepository.deleteByIds(List.of(15L))).thenReturn(1);
+
+        // When
+        BulkUserActionResponseDto result = userBulkService.apply(UserBulkService.Action.DELETE, request);
+
+        // Then
+        assertEquals(3, result.getAffectedUsers());
+        assertEquals(2, result.getChunks());
+        verify(eventPublisher).publishEvent(new UserCredentialsBatchChangedEvent(List.of(
+                new UserCredentialsChangedEvent("partner-a", 1L, false),
+                new UserCredentialsChangedEvent("partner-b", 5L, false))));
+        verify(userRepository, never()).findFilteredAfter(filter, 15L, 2);
+    }
+
+    @Test
+    void apply_WithoutIdsOrFilter_ThrowsException() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> userBulkService.apply(UserBulkService.Action.DELETE, new BulkUserActionRequestDto()));
+        verifyNoInteractions(userRepository);
+    }
+
+    private User createUser(Long id, String username, boolean active, long credentialEpoch) {
+        User user = new User(username, "$2a$10$encoded.password.hash");
+        user.setId(id);
+        user.setIsActive(active);
+        user.setCredentialEpoch(credentialEpoch);
+        return user;
+    }
+}
@@ -1,6 +1,10 @@
 package com.seek.test.seek_test.service;
 
+import com.seek.test.seek_test.dto.PasswordChangeRequestDto;
+import com.seek.test.seek_test.dto.UserActionResponseDto;
 import com.seek.test.seek_test.dto.UserCreateResponseDto;
+import com.seek.test.seek_test.dto.UserFilterDto;
+import com.seek.test.seek_test.dto.UserPageResponseDto;
 import com.seek.test.seek_test.entity.User;
 import com.seek.test.seek_test.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,9 +13,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,6 +35,9 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -89,5 +100,81 @@ class UserServiceTest {
         verify(userRepository, never()).save(any());
     }
 
+    @Test
+    void updatePassword_BumpsCredentialEpochAndPublishesEvent() {
+        // Given
+        PasswordChangeRequestDto request = new PasswordChangeRequestDto();
+        request.setCurrentPassword(testPassword);
+        request.setNewPassword("newPassword123");
+        request.setConfirmPassword("newPassword123");
+        when(userRepository.findById(2L)).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(testPassword, encodedPassword)).thenReturn(true);
+        when(passwordEncoder.encode("newPassword123")).thenReturn("$2a$10$new.encoded.hash");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        UserActionResponseDto result = userService.updatePassword(2L, request);
+
+        // Then
+        assertEquals("PASSWORD_UPDATED", result.getAction());
+        assertEquals(1L, testUser.getCredentialEpoch());
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent(testUsername, 1L, true));
+    }
+
+    @Test
+    void deactivateUser_BumpsCredentialEpochAndPublishesEvent() {
+        // Given
+        when(userRepository.findById(2L)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        UserActionResponseDto result = userService.deactivateUser(2L);
+
+        // Then
+        assertEquals("DEACTIVATED", result.getAction());
+        assertFalse(testUser.getIsActive());
+        assertEquals(1L, testUser.getCredentialEpoch());
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent(testUsername, 1L, false));
+    }
+
+    @Test
+    void findUsers_PassesFilterAndOneBasedPageToRepository() {
+        // Given
+        UserFilterDto filter = UserFilterDto.builder().active(true).usernamePrefix("jo").build();
+        when(userRepository.findFiltered(filter, PageRequest.of(1, 10)))
+                .thenReturn(new PageImpl<>(List.of(testUser), PageRequest.of(1, 10), 11));
+
+        // When
+        UserPageResponseDto result = userService.findUsers(filter, 2, null);
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertEquals(2, result.getPageNumber());
+        assertEquals(11L, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertFalse(result.isHasNext());
+        assertTrue(result.isHasPrevious());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void scrollUsers_FetchesOneExtraRowToReturnNextCursor() {
+        // Given
+        UserFilterDto filter = UserFilterDto.builder().active(true).build();
+        User next = new User("jane", encodedPassword);
+        next.setId(3L);
+        User extra = new User("jim", encodedPassword);
+        extra.setId(4L);
+        when(userRepository.findFilteredAfter(filter, 1L, 3)).thenReturn(List.of(testUser, next, extra));
+
+        // When
+        UserPageResponseDto result = userService.scrollUsers(filter, 1L, 2);
 
-} 
\ No newline at end of file
+        // Then
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertTrue(result.isHasPrevious());
+        assertEquals(3L, result.getNextCursor());
+        assertNull(result.getTotalElements());
+    }
+}
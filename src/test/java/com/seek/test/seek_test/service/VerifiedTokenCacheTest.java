@@ -0,0 +1,91 @@
+package com.seek.test.seek_test.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(meterRegistry, true, 100);
+    }
+
+    @Test
+    void get_AfterPut_ReturnsVerifiedToken() {
+        // Given
+        VerifiedTokenCache.VerifiedToken verified = verifiedToken("john", Instant.now().plusSeconds(60));
+        cache.put("token-1", verified);
+
+        // When & Then
+        assertEquals(verified, cache.get("token-1").orElseThrow());
+        assertTrue(cache.get("token-2").isEmpty());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void put_ExpiredToken_IsNotCached() {
+        // When
+        cache.put("token-1", verifiedToken("john", Instant.now().minusSeconds(1)));
+
+        // Then
+        assertTrue(cache.get("token-1").isEmpty());
+    }
+
+    @Test
+    void onCredentialsChanged_DropsOnlyTokensOfThatUser() {
+        // Given
+        cache.put("token-1", verifiedToken("john", Instant.now().plusSeconds(60)));
+        cache.put("token-2", verifiedToken("john", Instant.now().plusSeconds(60)));
+        cache.put("token-3", verifiedToken("jane", Instant.now().plusSeconds(60)));
+
+        // When
+        cache.onCredentialsChanged(new UserCredentialsChangedEvent("john", 1L, false));
+
+        // Then
+        assertTrue(cache.get("token-1").isEmpty());
+        assertTrue(cache.get("token-2").isEmpty());
+        assertTrue(cache.get("token-3").isPresent());
+    }
+
+    @Test
+    void onCredentialsChanged_Batch_DropsTokensOfAllAffectedUsers() {
+        // Given
+        cache.put("token-1", verifiedToken("john", Instant.now().plusSeconds(60)));
+        cache.put("token-2", verifiedToken("jane", Instant.now().plusSeconds(60)));
+        cache.put("token-3", verifiedToken("jim", Instant.now().plusSeconds(60)));
+
+        // When
+        cache.onCredentialsChanged(new UserCredentialsBatchChangedEvent(List.of(
+                new UserCredentialsChangedEvent("john", 1L, false),
+                new UserCredentialsChangedEvent("jane", 2L, false))));
+
+        // Then
+        assertTrue(cache.get("token-1").isEmpty());
+        assertTrue(cache.get("token-2").isEmpty());
+        assertTrue(cache.get("token-3").isPresent());
+    }
+
+    @Test
+    void get_WhenDisabled_AlwaysMisses() {
+        // Given
+        VerifiedTokenCache disabled = new VerifiedTokenCache(meterRegistry, false, 100);
+        disabled.put("token-1", verifiedToken("john", Instant.now().plusSeconds(60)));
+
+        // When & Then
+        assertTrue(disabled.get("token-1").isEmpty());
+    }
+
+    private VerifiedTokenCache.VerifiedToken verifiedToken(String username, Instant expiresAt) {
+        return new VerifiedTokenCache.VerifiedToken(username, List.of("ROLE_USER"), 0L, expiresAt);
+    }
+}